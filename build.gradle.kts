@@ -9,6 +9,7 @@ plugins {
     //alias(libs.plugins.paperweight) // Used to develop internal plugins using Mojang mappings, See https://github.com/PaperMC/paperweight
     alias(libs.plugins.flyway) // Database migrations
     alias(libs.plugins.jooq) // Database ORM
+    alias(libs.plugins.jmh) // Benchmarks in the jmh source set, see https://github.com/melix/jmh-gradle-plugin
     flywaypatches
     projectextensions
     versioner
@@ -96,7 +97,11 @@ dependencies {
     testRuntimeOnly(libs.slf4j)
     testImplementation(platform(libs.testcontainers.bom))
     testImplementation(libs.bundles.testcontainers)
-    testRuntimeOnly(libs.paper.api)
+    testImplementation(libs.paper.api)
+
+    // Testing - Plugin dependencies
+    testImplementation(libs.vault)
+    testImplementation(libs.packetevents)
 
     // Testing - Database dependencies
     testImplementation(libs.hikaricp)
@@ -108,6 +113,11 @@ dependencies {
 
     // Testing - Messaging service clients
     testImplementation(libs.bundles.messagingclients)
+
+    // Benchmarking
+    jmh(libs.jmh.core)
+    jmh(libs.jmh.annprocess)
+    jmh(libs.paper.api)
 }
 
 tasks {
@@ -167,10 +177,29 @@ tasks {
     }
 
     test {
-        useJUnitPlatform()
+        useJUnitPlatform {
+            excludeTags("loadtest")
+        }
         failFast = false
     }
 
+    register<Test>("loadTest") { // Database and message broker load tests, options: -PloadTestPoolSize, -PloadTestThreads and -PloadTestOperations
+        description = "Runs the database and message broker load tests."
+        group = "verification"
+        testClassesDirs = sourceSets.test.get().output.classesDirs
+        classpath = sourceSets.test.get().runtimeClasspath
+        useJUnitPlatform {
+            includeTags("loadtest")
+        }
+        outputs.upToDateWhen { false } // Always measure
+        testLogging.showStandardStreams = true
+
+        providers.gradleProperty("loadTestPoolSize").orNull?.let { systemProperty("loadtest.pool-size", it) }
+        providers.gradleProperty("loadTestThreads").orNull?.let { systemProperty("loadtest.threads", it) }
+        providers.gradleProperty("loadTestOperations").orNull?.let { systemProperty("loadtest.operations", it) }
+        systemProperty("loadtest.report-dir", project.layout.buildDirectory.dir("reports/loadtest").get().asFile.absolutePath)
+    }
+
     runServer {
         // Configure the Minecraft version for our task.
         minecraftVersion("1.21")
@@ -195,6 +224,17 @@ tasks {
     }
 }
 
+jmh { // Run with the jmh task, options: https://github.com/melix/jmh-gradle-plugin#configuration-options
+    jmhVersion = libs.versions.jmh.get()
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    timeUnit = "us"
+    resultFormat = "JSON" // Machine-readable results, one file per version so releases can be compared
+    resultsFile = project.layout.buildDirectory.file("results/jmh/${project.name}-${project.version}.json")
+    includes = providers.gradleProperty("jmhIncludes").map { listOf(it) }.orElse(listOf()) // Run a subset using -PjmhIncludes=<regex>
+}
+
 bukkit { // Options: https://github.com/Minecrell/plugin-yml#bukkit
     // Plugin main class (required)
     main = project.entryPointClass
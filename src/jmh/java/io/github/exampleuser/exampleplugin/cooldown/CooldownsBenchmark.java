@@ -0,0 +1,77 @@
+package io.github.exampleuser.exampleplugin.cooldown;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks cooldown checks and updates from many threads at once, like async tasks and region threads checking cooldowns while the main thread sets them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CooldownsBenchmark {
+    private static final CooldownType TYPE = CooldownType.EXAMPLE_COOLDOWN;
+
+    @Param({"1000"})
+    private int players;
+
+    private UUID[] uuids;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Cooldowns.reset();
+        uuids = new UUID[players];
+        for (int i = 0; i < players; i++) {
+            uuids[i] = UUID.randomUUID();
+            if (i % 2 == 0) // Half of the players are on cooldown
+                Cooldowns.setMillis(uuids[i], TYPE, TimeUnit.MINUTES.toMillis(5));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Cooldowns.reset();
+    }
+
+    private UUID randomPlayer() {
+        return uuids[ThreadLocalRandom.current().nextInt(uuids.length)];
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean has() {
+        return Cooldowns.has(randomPlayer(), TYPE);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean hasMillis() {
+        return Cooldowns.hasMillis(randomPlayer(), TYPE, 0L);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long remainingMillis() {
+        return Cooldowns.remainingMillis(randomPlayer(), TYPE);
+    }
+
+    /**
+     * Three threads checking cooldowns while one thread keeps setting them.
+     */
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(3)
+    public boolean contendedHas() {
+        return Cooldowns.hasMillis(randomPlayer(), TYPE, 0L);
+    }
+
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public long contendedSet() {
+        return Cooldowns.setMillis(randomPlayer(), TYPE, TimeUnit.MINUTES.toMillis(5));
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.exampleuser.exampleplugin.database;
+
+import io.github.exampleuser.exampleplugin.cooldown.CooldownType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the converters used by queries to store UUIDs and packed cooldowns.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class QueryUtilsBenchmark {
+    private UUID uuid;
+    private byte[] uuidBytes;
+    private Map<CooldownType, Long> cooldowns;
+    private byte[] packedCooldowns;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        uuid = UUID.randomUUID();
+        uuidBytes = QueryUtils.UUIDUtil.toBytes(uuid);
+        cooldowns = new EnumMap<>(CooldownType.class);
+        for (CooldownType type : CooldownType.values())
+            cooldowns.put(type, System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(5));
+        packedCooldowns = QueryUtils.CooldownUtil.pack(cooldowns);
+    }
+
+    @Benchmark
+    public byte[] uuidToBytes() {
+        return QueryUtils.UUIDUtil.toBytes(uuid);
+    }
+
+    @Benchmark
+    public UUID uuidFromBytes() {
+        return QueryUtils.UUIDUtil.fromBytes(uuidBytes);
+    }
+
+    @Benchmark
+    public byte[] packCooldowns() {
+        return QueryUtils.CooldownUtil.pack(cooldowns);
+    }
+
+    @Benchmark
+    public Map<CooldownType, Long> unpackCooldowns() {
+        return QueryUtils.CooldownUtil.unpack(packedCooldowns);
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.exampleuser.exampleplugin.messenger.cache;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cache the messenger uses to skip messages it has already seen, which every received message is added to and checked against.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheSetBenchmark {
+    @Param({"10000"})
+    private int size;
+
+    private CacheSet<UUID> cache;
+    private UUID[] values;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        cache = new CacheSet<>(1, TimeUnit.HOURS);
+        values = new UUID[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = UUID.randomUUID();
+            if (i % 2 == 0) // Half of the values are cached
+                cache.add(values[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cache.close();
+    }
+
+    private UUID randomValue() {
+        return values[ThreadLocalRandom.current().nextInt(values.length)];
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean contains() {
+        return cache.contains(randomValue());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean add() {
+        return cache.add(randomValue());
+    }
+
+    /**
+     * Three threads checking for duplicates while one thread adds received messages.
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public boolean mixedContains() {
+        return cache.contains(randomValue());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public boolean mixedAdd() {
+        return cache.add(randomValue());
+    }
+}
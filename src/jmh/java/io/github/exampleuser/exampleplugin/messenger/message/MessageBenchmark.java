@@ -0,0 +1,57 @@
+package io.github.exampleuser.exampleplugin.messenger.message;
+
+import com.google.gson.annotations.SerializedName;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks encoding and decoding messages, which every sent and received message goes through.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class MessageBenchmark {
+    public record Payload(@SerializedName("name") String name, @SerializedName("amount") int amount, @SerializedName("time") long time) {
+    }
+
+    private Message<String> stringMessage;
+    private Message<Payload> objectMessage;
+    private String stringJson;
+    private String objectJson;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        stringMessage = Message.<String>builder()
+            .channelId("benchmark")
+            .payload("The quick brown fox jumps over the lazy dog")
+            .build();
+        objectMessage = Message.<Payload>builder()
+            .channelId("benchmark")
+            .payload(new Payload("benchmark", 42, System.currentTimeMillis()))
+            .build();
+        stringJson = stringMessage.encode();
+        objectJson = objectMessage.encode();
+    }
+
+    @Benchmark
+    public String encodeString() {
+        return stringMessage.encode();
+    }
+
+    @Benchmark
+    public String encodeObject() {
+        return objectMessage.encode();
+    }
+
+    @Benchmark
+    public Message<String> decodeString() {
+        return Message.from(stringJson);
+    }
+
+    @Benchmark
+    public Message<Payload> decodeObject() {
+        return Message.from(objectJson);
+    }
+}
@@ -39,8 +39,9 @@ public class ExamplePlugin extends JavaPlugin {
     private SchedulerHandler schedulerHandler;
     private CooldownHandler cooldownHandler;
 
-    // Handlers list (defines order of load/enable/disable)
+    // Handlers list (defines order of load/enable/disable, handlers loading concurrently may load before handlers listed earlier)
     private List<? extends Reloadable> handlers;
+    private StartupOrchestrator orchestrator;
 
     /**
      * Gets plugin instance.
@@ -86,16 +87,16 @@ public class ExamplePlugin extends JavaPlugin {
             cooldownHandler
         );
 
+        orchestrator = new StartupOrchestrator(getComponentLogger(), handlers);
+
         DB.init(databaseHandler);
         Messenger.init(messengerHandler);
-        for (Reloadable handler : handlers)
-            handler.onLoad(instance);
+        orchestrator.load(instance);
     }
 
     @Override
     public void onEnable() {
-        for (Reloadable handler : handlers)
-            handler.onEnable(instance);
+        orchestrator.enable(instance);
 
         if (!DB.isReady()) {
             Logger.get().warn(ColorParser.of("<yellow>Database handler failed to start. Database support has been disabled.").build());
@@ -110,8 +111,7 @@ public class ExamplePlugin extends JavaPlugin {
 
     @Override
     public void onDisable() {
-        for (Reloadable handler : handlers.reversed()) // If reverse doesn't work implement a new List with your desired disable order
-            handler.onDisable(instance);
+        orchestrator.disable(instance);
     }
 
     /**
@@ -1,5 +1,7 @@
 package io.github.exampleuser.exampleplugin;
 
+import java.util.Set;
+
 /**
  * Implemented in classes that should support being reloaded IE executing the methods during runtime after startup.
  */
@@ -18,4 +20,25 @@ public interface Reloadable {
      * On plugin disable.
      */
     void onDisable(ExamplePlugin plugin);
+
+    /**
+     * The services which must finish loading before this service loads. Dependencies have to be listed before this service in the plugin's handler list.
+     * <p>
+     * Evaluated right before this service is scheduled to load, after every main thread service listed before it has loaded.
+     *
+     * @param plugin the plugin
+     * @return the dependencies
+     */
+    default Set<Class<? extends Reloadable>> getDependencies(ExamplePlugin plugin) {
+        return Set.of();
+    }
+
+    /**
+     * Whether {@link #onLoad(ExamplePlugin)} is safe to run off the main thread, concurrently with services it does not depend on.
+     *
+     * @return if this service loads concurrently
+     */
+    default boolean isConcurrentLoad() {
+        return false;
+    }
 }
@@ -0,0 +1,129 @@
+package io.github.exampleuser.exampleplugin;
+
+import org.slf4j.Logger;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the lifecycle of the plugin's services, loading services which declare {@link Reloadable#isConcurrentLoad()} off the main thread once their {@link Reloadable#getDependencies(ExamplePlugin) dependencies} have loaded.
+ * <p>
+ * Main thread services load in list order on the calling thread, only waiting for concurrent services they depend on. Enabling and disabling stays sequential on the calling thread.
+ * The time spent in each service is logged after every phase.
+ */
+final class StartupOrchestrator {
+    private final Logger logger;
+    private final List<? extends Reloadable> services;
+
+    /**
+     * Instantiates a new startup orchestrator.
+     *
+     * @param logger   the logger
+     * @param services the services in load order
+     */
+    StartupOrchestrator(Logger logger, List<? extends Reloadable> services) {
+        this.logger = logger;
+        this.services = services;
+    }
+
+    /**
+     * Load all services, returning once every service has loaded.
+     *
+     * @param plugin the plugin
+     * @throws IllegalStateException if a service depends on a service which is not listed before it
+     */
+    void load(ExamplePlugin plugin) {
+        final long start = System.nanoTime();
+        final Map<Reloadable, Long> timings = Collections.synchronizedMap(new IdentityHashMap<>());
+        final Map<Class<?>, CompletableFuture<Void>> loaded = new HashMap<>();
+
+        try (ExecutorService executor = Executors.newCachedThreadPool(Thread.ofPlatform().name("startup-", 0).daemon().factory())) {
+            for (Reloadable service : services) {
+                final CompletableFuture<Void> dependencies = CompletableFuture.allOf(
+                    service.getDependencies(plugin).stream()
+                        .map(dependency -> {
+                            final CompletableFuture<Void> future = loaded.get(dependency);
+                            if (future == null)
+                                throw new IllegalStateException("%s depends on %s which is not loaded before it!".formatted(name(service), dependency.getSimpleName()));
+                            return future;
+                        })
+                        .toArray(CompletableFuture[]::new)
+                ).exceptionally(throwable -> null); // A failed dependency is handled by its dependents, like a service which failed to start
+
+                final CompletableFuture<Void> future;
+                if (service.isConcurrentLoad()) {
+                    future = dependencies.thenRunAsync(() -> timed(service, timings, s -> s.onLoad(plugin)), executor);
+                } else {
+                    dependencies.join();
+                    timed(service, timings, s -> s.onLoad(plugin));
+                    future = CompletableFuture.completedFuture(null);
+                }
+                loaded.put(service.getClass(), future);
+            }
+
+            CompletableFuture.allOf(loaded.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw e;
+        }
+
+        report("Loaded", start, timings, true);
+    }
+
+    /**
+     * Enable all services in list order.
+     *
+     * @param plugin the plugin
+     */
+    void enable(ExamplePlugin plugin) {
+        final long start = System.nanoTime();
+        final Map<Reloadable, Long> timings = new IdentityHashMap<>();
+        for (Reloadable service : services)
+            timed(service, timings, s -> s.onEnable(plugin));
+
+        report("Enabled", start, timings, false);
+    }
+
+    /**
+     * Disable all services in reverse list order.
+     *
+     * @param plugin the plugin
+     */
+    void disable(ExamplePlugin plugin) {
+        for (Reloadable service : services.reversed()) // If reverse doesn't work implement a new List with your desired disable order
+            service.onDisable(plugin);
+    }
+
+    private static void timed(Reloadable service, Map<Reloadable, Long> timings, Consumer<Reloadable> action) {
+        final long start = System.nanoTime();
+        try {
+            action.accept(service);
+        } finally {
+            timings.put(service, System.nanoTime() - start);
+        }
+    }
+
+    private void report(String phase, long start, Map<Reloadable, Long> timings, boolean markConcurrent) {
+        final String breakdown = services.stream()
+            .filter(timings::containsKey)
+            .map(service -> "%s %dms%s".formatted(
+                name(service),
+                TimeUnit.NANOSECONDS.toMillis(timings.get(service)),
+                markConcurrent && service.isConcurrentLoad() ? " (async)" : ""
+            ))
+            .collect(Collectors.joining(", "));
+
+        logger.info("{} {} services in {}ms: {}", phase, timings.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), breakdown);
+    }
+
+    private static String name(Reloadable service) {
+        return service.getClass().getSimpleName();
+    }
+}
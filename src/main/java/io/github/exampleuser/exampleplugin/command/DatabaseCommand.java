@@ -0,0 +1,129 @@
+package io.github.exampleuser.exampleplugin.command;
+
+import dev.jorel.commandapi.CommandAPIBukkit;
+import dev.jorel.commandapi.CommandAPICommand;
+import dev.jorel.commandapi.exceptions.WrapperCommandSyntaxException;
+import dev.jorel.commandapi.executors.CommandArguments;
+import io.github.exampleuser.exampleplugin.database.metrics.LatencyHistogram;
+import io.github.exampleuser.exampleplugin.database.metrics.PoolMetrics;
+import io.github.exampleuser.exampleplugin.database.metrics.QueryMetrics;
+import io.github.exampleuser.exampleplugin.utility.DB;
+import io.github.milkdrinkers.colorparser.paper.ColorParser;
+import io.github.milkdrinkers.wordweaver.Translation;
+import org.bukkit.command.CommandSender;
+
+import java.util.List;
+
+import static io.github.exampleuser.exampleplugin.command.CommandHandler.BASE_PERM;
+
+/**
+ * Class containing the code for the database commands.
+ */
+final class DatabaseCommand {
+    private static final String DATABASE_PERM = BASE_PERM + ".database";
+    private static final int TOP_QUERIES = 10;
+    private static final int SQL_PREVIEW_LENGTH = 60;
+
+    /**
+     * Instantiates a new command tree.
+     */
+    CommandAPICommand command() {
+        return new CommandAPICommand("database")
+            .withHelp("Database related commands.", "Database related commands.")
+            .withPermission(DATABASE_PERM)
+            .withSubcommands(
+                commandStats(),
+                commandQueries(),
+                new CommandAPICommand("help")
+                    .executes(this::executorHelp)
+            )
+            .executes(this::executorHelp);
+    }
+
+    private CommandAPICommand commandStats() {
+        return new CommandAPICommand("stats")
+            .withHelp("Show connection pool statistics.", "Show connection pool statistics.")
+            .withPermission(DATABASE_PERM + ".stats")
+            .executes(this::executorStats);
+    }
+
+    private CommandAPICommand commandQueries() {
+        return new CommandAPICommand("queries")
+            .withHelp("Show the statements with the most time spent executing.", "Show the statements with the most time spent executing.")
+            .withPermission(DATABASE_PERM + ".queries")
+            .withSubcommands(
+                new CommandAPICommand("reset")
+                    .executes(this::executorQueriesReset)
+            )
+            .executes(this::executorQueries);
+    }
+
+    private void executorHelp(CommandSender sender, CommandArguments args) {
+        sender.sendMessage(Translation.as("commands.database.help"));
+    }
+
+    private void executorStats(CommandSender sender, CommandArguments args) throws WrapperCommandSyntaxException {
+        if (!DB.isReady())
+            throw CommandAPIBukkit.failWithAdventureComponent(Translation.as("commands.database.stats.unavailable"));
+
+        sender.sendMessage(Translation.as("commands.database.stats.header"));
+        for (PoolMetrics.Snapshot pool : DB.getHandler().getPoolMetrics().snapshot()) {
+            final LatencyHistogram.Snapshot acquire = pool.acquireLatency();
+            sender.sendMessage(
+                ColorParser.of(Translation.of("commands.database.stats.pool"))
+                    .with("pool", pool.poolName())
+                    .with("active", String.valueOf(pool.active()))
+                    .with("idle", String.valueOf(pool.idle()))
+                    .with("pending", String.valueOf(pool.pending()))
+                    .with("total", String.valueOf(pool.total()))
+                    .with("max", String.valueOf(pool.max()))
+                    .with("acquisitions", String.valueOf(acquire.count()))
+                    .with("p50", LatencyHistogram.Snapshot.format(acquire.p50()))
+                    .with("p95", LatencyHistogram.Snapshot.format(acquire.p95()))
+                    .with("p99", LatencyHistogram.Snapshot.format(acquire.p99()))
+                    .with("latency_max", LatencyHistogram.Snapshot.format(acquire.max()))
+                    .with("timeouts", String.valueOf(pool.connectionTimeouts()))
+                    .build()
+            );
+        }
+    }
+
+    private void executorQueries(CommandSender sender, CommandArguments args) throws WrapperCommandSyntaxException {
+        if (!DB.isReady())
+            throw CommandAPIBukkit.failWithAdventureComponent(Translation.as("commands.database.stats.unavailable"));
+
+        final List<QueryMetrics.Snapshot> queries = DB.getHandler().getQueryMetrics().snapshot();
+        if (queries.isEmpty()) {
+            sender.sendMessage(Translation.as("commands.database.queries.empty"));
+            return;
+        }
+
+        sender.sendMessage(Translation.as("commands.database.queries.header"));
+        for (QueryMetrics.Snapshot query : queries.subList(0, Math.min(TOP_QUERIES, queries.size()))) {
+            final LatencyHistogram.Snapshot latency = query.latency();
+            final String sql = query.sql().replace("'", "");
+            sender.sendMessage(
+                ColorParser.of(Translation.of("commands.database.queries.query"))
+                    .with("caller", query.caller())
+                    .with("executions", String.valueOf(query.executions()))
+                    .with("p50", LatencyHistogram.Snapshot.format(latency.p50()))
+                    .with("p95", LatencyHistogram.Snapshot.format(latency.p95()))
+                    .with("p99", LatencyHistogram.Snapshot.format(latency.p99()))
+                    .with("latency_max", LatencyHistogram.Snapshot.format(latency.max()))
+                    .with("rows", String.valueOf(query.rows()))
+                    .with("errors", String.valueOf(query.errors()))
+                    .with("sql", sql)
+                    .with("sql_short", sql.length() > SQL_PREVIEW_LENGTH ? sql.substring(0, SQL_PREVIEW_LENGTH) + "..." : sql)
+                    .build()
+            );
+        }
+    }
+
+    private void executorQueriesReset(CommandSender sender, CommandArguments args) throws WrapperCommandSyntaxException {
+        if (!DB.isReady())
+            throw CommandAPIBukkit.failWithAdventureComponent(Translation.as("commands.database.stats.unavailable"));
+
+        DB.getHandler().getQueryMetrics().reset();
+        sender.sendMessage(Translation.as("commands.database.queries.reset"));
+    }
+}
@@ -20,7 +20,8 @@ class ExampleCommand {
             .withPermission(BASE_PERM)
             .withSubcommands(
                 new TranslationCommand().command(),
-                new DumpCommand().command()
+                new DumpCommand().command(),
+                new DatabaseCommand().command()
             )
             .executes(this::executorExample)
             .register();
@@ -0,0 +1,36 @@
+package io.github.exampleuser.exampleplugin.cooldown;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A cooldown which changed since it was last saved.
+ *
+ * @param uuid   the player's UUID
+ * @param type   the cooldown type
+ * @param expiry the expiry time in epoch milliseconds, or 0 if the cooldown was removed or has expired
+ */
+public record CooldownChange(@NotNull UUID uuid, @NotNull CooldownType type, long expiry) {
+    /**
+     * Whether the cooldown should be deleted rather than saved.
+     *
+     * @return if the cooldown was removed
+     */
+    public boolean isRemoval() {
+        return expiry == 0L;
+    }
+
+    /**
+     * Gets the cooldown expiration time.
+     *
+     * @return the expiration time
+     * @throws IllegalStateException if this change is a removal
+     */
+    public @NotNull Instant expiresAt() {
+        if (isRemoval())
+            throw new IllegalStateException("A removed cooldown has no expiration time!");
+        return Instant.ofEpochMilli(expiry);
+    }
+}
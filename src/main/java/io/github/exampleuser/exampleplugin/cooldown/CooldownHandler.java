@@ -2,18 +2,28 @@ package io.github.exampleuser.exampleplugin.cooldown;
 
 import io.github.exampleuser.exampleplugin.ExamplePlugin;
 import io.github.exampleuser.exampleplugin.Reloadable;
+import io.github.exampleuser.exampleplugin.cooldown.event.CooldownExpireEvent;
 import io.github.exampleuser.exampleplugin.cooldown.listener.ListenerHandler;
 import io.github.exampleuser.exampleplugin.database.Queries;
+import io.github.exampleuser.exampleplugin.messenger.message.Message;
+import io.github.exampleuser.exampleplugin.utility.DB;
+import io.github.exampleuser.exampleplugin.utility.Logger;
+import io.github.exampleuser.exampleplugin.utility.Messenger;
+import io.github.milkdrinkers.threadutil.Scheduler;
 import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
-import org.bukkit.entity.Player;
-import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 
 public final class CooldownHandler implements Reloadable {
+    private static final long SHUTDOWN_DEADLINE = 10L; // Seconds
+
     private ListenerHandler listenerHandler;
     private ScheduledTask autoSaveTask;
+    private ScheduledTask expiryTask;
 
     @Override
     public void onLoad(ExamplePlugin plugin) {
@@ -29,8 +39,17 @@ public final class CooldownHandler implements Reloadable {
         if (listenerHandler == null)
             return;
 
+        if (DB.isReady()) { // Move cooldowns into the configured storage layout if it was changed, queued before any cooldown is loaded or saved
+            Queries.Cooldown.convertLayoutAsync().thenAccept(converted -> {
+                if (converted > 0)
+                    Logger.get().info("Converted the cooldowns of {} players to the {} storage layout", converted, DB.getHandler().getDatabaseConfig().isPackedCooldowns() ? "packed" : "row");
+            });
+        }
         listenerHandler.onEnable(plugin);
-        autoSaveTask = plugin.getServer().getAsyncScheduler().runAtFixedRate(plugin, autoSaveTask(plugin), 10L, 10L, TimeUnit.MINUTES);
+        if (Messenger.isReady()) // Keep cooldowns in sync with other servers
+            Cooldowns.setPublisher(sync -> Messenger.send(Message.builder().channelId(CooldownSync.CHANNEL).payload(sync).build()));
+        autoSaveTask = plugin.getServer().getAsyncScheduler().runAtFixedRate(plugin, autoSaveTask(), 10L, 10L, TimeUnit.MINUTES);
+        expiryTask = plugin.getServer().getAsyncScheduler().runAtFixedRate(plugin, expiryTask(), ExpiryWheel.TICK, ExpiryWheel.TICK, TimeUnit.MILLISECONDS);
     }
 
     @Override
@@ -39,18 +58,74 @@ public final class CooldownHandler implements Reloadable {
             return;
 
         autoSaveTask.cancel();
+        expiryTask.cancel();
+        Cooldowns.setPublisher(null);
         listenerHandler.onDisable(plugin);
+        flush();
         Cooldowns.reset();
     }
 
-    private Consumer<ScheduledTask> autoSaveTask(JavaPlugin plugin) {
+    private Consumer<ScheduledTask> autoSaveTask() {
         return task -> {
-            for (final Player p : plugin.getServer().getOnlinePlayers()) {
-                if (!p.isOnline())
-                    continue;
+            if (!DB.isReady())
+                return;
+
+            final List<CooldownChange> changes = Cooldowns.drainChanges(); // Only cooldowns changed since the last save
+            if (changes.isEmpty())
+                return;
+
+            DB.getWriteQueue().execute(() -> {
+                if (!Queries.Cooldown.save(changes))
+                    Cooldowns.markDirty(changes); // Retry on the next save
+            });
+        };
+    }
+
+    /**
+     * Save every unsaved cooldown change in one transaction, waiting at most {@value #SHUTDOWN_DEADLINE} seconds.
+     * A save still running after the deadline is finished when the database shuts down.
+     */
+    private void flush() {
+        final long start = System.nanoTime();
+        final List<CooldownChange> changes = Cooldowns.drainChanges();
+        if (changes.isEmpty())
+            return;
 
-                Queries.Cooldown.save(p);
+        if (!DB.isReady()) {
+            Logger.get().warn("Database is not available, {} cooldown changes were not saved!", changes.size());
+            return;
+        }
+
+        try {
+            final boolean saved = DB.getWriteQueue()
+                .submit(() -> Queries.Cooldown.save(changes))
+                .get(SHUTDOWN_DEADLINE, TimeUnit.SECONDS);
+            final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            if (saved) {
+                Logger.get().info("Saved {} cooldown changes in {}ms", changes.size(), elapsed);
+            } else {
+                Logger.get().error("Failed to save {} cooldown changes after {}ms!", changes.size(), elapsed);
             }
+        } catch (TimeoutException e) {
+            Logger.get().warn("Saving {} cooldown changes did not finish within {}s, waiting for the database to shut down", changes.size(), SHUTDOWN_DEADLINE);
+        } catch (ExecutionException e) {
+            Logger.get().error("Failed to save {} cooldown changes!", changes.size(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Consumer<ScheduledTask> expiryTask() {
+        return task -> {
+            final List<ExpiryWheel.Entry> expired = Cooldowns.expire();
+            if (expired.isEmpty() || CooldownExpireEvent.getHandlerList().getRegisteredListeners().length == 0)
+                return;
+
+            Scheduler.sync(() -> { // One main thread task per tick for all expired cooldowns
+                for (ExpiryWheel.Entry entry : expired)
+                    new CooldownExpireEvent(entry.uuid(), entry.type(), entry.expiry()).callEvent();
+            }).execute();
         };
     }
 }
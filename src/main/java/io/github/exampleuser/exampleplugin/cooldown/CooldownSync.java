@@ -0,0 +1,29 @@
+package io.github.exampleuser.exampleplugin.cooldown;
+
+import com.google.gson.annotations.SerializedName;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * A cooldown change published to the other servers through the messenger.
+ * <p>
+ * Servers merge changes using last-writer-wins, the change with the highest version is kept and equal versions keep the later expiry.
+ * Versions are the wall clock time of the write in epoch milliseconds, incremented if needed so every write to a cooldown has a higher version than the previous one.
+ *
+ * @param uuid    the player's UUID
+ * @param type    the cooldown type
+ * @param expiry  the expiry time in epoch milliseconds, or 0 if the cooldown was removed
+ * @param version the version of this change
+ */
+public record CooldownSync(
+    @SerializedName("uuid") @NotNull UUID uuid,
+    @SerializedName("type") @NotNull CooldownType type,
+    @SerializedName("expiry") long expiry,
+    @SerializedName("version") long version
+) {
+    /**
+     * The messenger channel cooldown changes are published on.
+     */
+    public static final String CHANNEL = "cooldown-sync";
+}
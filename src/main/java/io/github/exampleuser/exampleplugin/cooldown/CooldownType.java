@@ -1,5 +1,50 @@
 package io.github.exampleuser.exampleplugin.cooldown;
 
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
 public enum CooldownType {
-    EXAMPLE_COOLDOWN,
+    EXAMPLE_COOLDOWN(0),
+    ;
+
+    private static final CooldownType[] BY_ID;
+
+    static {
+        final int maxId = Arrays.stream(values()).mapToInt(CooldownType::getId).max().orElse(-1);
+        BY_ID = new CooldownType[maxId + 1];
+        for (CooldownType type : values()) {
+            if (BY_ID[type.getId()] != null)
+                throw new IllegalStateException("Cooldown types %s and %s share the id %d".formatted(BY_ID[type.getId()], type, type.getId()));
+            BY_ID[type.getId()] = type;
+        }
+    }
+
+    private final int id;
+
+    CooldownType(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the id this cooldown type is stored as in packed cooldowns. Ids must never change or be reused once in use.
+     *
+     * @return the id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets a cooldown type by its id.
+     *
+     * @param id the id
+     * @return the cooldown type, or null if no cooldown type has the id
+     */
+    public static @Nullable CooldownType fromId(int id) {
+        if (id < 0 || id >= BY_ID.length)
+            return null;
+
+        return BY_ID[id];
+    }
 }
@@ -1,17 +1,23 @@
 package io.github.exampleuser.exampleplugin.cooldown;
 
-import com.google.common.collect.HashBasedTable;
-import com.google.common.collect.Table;
-import com.google.common.collect.Tables;
 import org.bukkit.OfflinePlayer;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Singleton manager for handling player cooldowns across different types of actions.
@@ -30,13 +36,19 @@ import java.util.concurrent.TimeUnit;
  *     Duration remaining = Cooldowns.getRemaining(player, CooldownType.TELEPORT);
  *     player.sendMessage("Wait " + remaining.getSeconds() + " seconds before teleporting again");
  * }
+ *
+ * // In hot event handlers, prefer the allocation free millisecond variants
+ * if (Cooldowns.remainingMillis(player, CooldownType.TELEPORT) > 0) {
+ *     return;
+ * }
  * }</pre>
  *
  * @author darksaid98
  */
 @SuppressWarnings("unused")
 public final class Cooldowns {
-    private static CooldownStorage INSTANCE;
+    private static volatile CooldownStorage INSTANCE = new CooldownStorage();
+    private static volatile @Nullable Consumer<CooldownSync> PUBLISHER = null;
 
     /**
      * Gets the singleton instance of the cooldown storage.
@@ -45,9 +57,6 @@ public final class Cooldowns {
      */
     @NotNull
     private static CooldownStorage getInstance() {
-        if (INSTANCE == null) {
-            INSTANCE = new CooldownStorage();
-        }
         return INSTANCE;
     }
 
@@ -63,19 +72,182 @@ public final class Cooldowns {
         INSTANCE = new CooldownStorage();
     }
 
+    /**
+     * Removes all cooldowns which expired since the last call, called once per tick.
+     *
+     * @return the removed cooldowns
+     */
+    @ApiStatus.Internal
+    static List<ExpiryWheel.Entry> expire() {
+        return getInstance().expire(System.currentTimeMillis());
+    }
+
+    /**
+     * Sets where local cooldown changes are published for other servers, or null to stop publishing.
+     *
+     * @param publisher the publisher
+     */
+    @ApiStatus.Internal
+    static void setPublisher(@Nullable Consumer<CooldownSync> publisher) {
+        PUBLISHER = publisher;
+    }
+
+    private static void publish(CooldownSync sync) {
+        final Consumer<CooldownSync> publisher = PUBLISHER;
+        if (publisher != null)
+            publisher.accept(sync);
+    }
+
+    /**
+     * Merges a cooldown change received from another server.
+     *
+     * @param sync the change
+     * @return whether the change was newer and applied, false if it was stale or staged until the player joins
+     */
+    @ApiStatus.Internal
+    public static boolean merge(CooldownSync sync) {
+        return getInstance().merge(sync);
+    }
+
+    /**
+     * Sets cooldowns loaded from the database, without marking them as changed.
+     *
+     * @param uuid      the player's UUID
+     * @param cooldowns the cooldowns
+     */
+    @ApiStatus.Internal
+    public static void load(UUID uuid, Map<CooldownType, Instant> cooldowns) {
+        getInstance().load(uuid, cooldowns);
+    }
+
+    /**
+     * Drops all cooldowns of a player from memory, along with any unsaved changes. Used once a player's cooldowns have been saved when they leave.
+     *
+     * @param uuid the player's UUID
+     */
+    @ApiStatus.Internal
+    public static void unload(UUID uuid) {
+        getInstance().unload(uuid);
+    }
+
+    /**
+     * Collects and resets all cooldowns changed since they were last saved.
+     *
+     * @return the changes
+     */
+    @ApiStatus.Internal
+    public static List<CooldownChange> drainChanges() {
+        return getInstance().drain(System.currentTimeMillis());
+    }
+
+    /**
+     * Collects and resets the cooldowns of a player changed since they were last saved.
+     *
+     * @param uuid the player's UUID
+     * @return the changes
+     */
+    @ApiStatus.Internal
+    public static List<CooldownChange> drainChanges(UUID uuid) {
+        final List<CooldownChange> changes = new ArrayList<>();
+        getInstance().drain(uuid, System.currentTimeMillis(), changes);
+        return changes;
+    }
+
+    /**
+     * Marks cooldowns as changed again after saving them failed, so the next save retries them. Changes of players who have been unloaded are kept until then as well.
+     *
+     * @param changes the changes
+     */
+    @ApiStatus.Internal
+    public static void markDirty(Collection<CooldownChange> changes) {
+        getInstance().markDirty(changes);
+    }
+
     /**
      * Internal storage implementation for cooldowns.
      * <p>
-     * This class uses a synchronized Guava Table to store cooldown data,
-     * ensuring thread safety for concurrent operations.
+     * Each player maps to a primitive array of expiry times in epoch milliseconds, indexed by {@link CooldownType#ordinal()}, where {@value #NONE} marks an unset cooldown.
+     * Array elements are accessed through a {@link VarHandle} with acquire/release semantics, so reads never lock and checking a cooldown allocates nothing.
+     * </p>
+     * <p>
+     * The expiry times are followed by the version of each cooldown, used to merge changes from other servers, see {@link CooldownSync}.
+     * Writes to a player's cooldowns lock on their array so the expiry and version change together, reads stay lock-free.
+     * </p>
+     * <p>
+     * The last element of each array is a bit mask of the cooldown types changed since they were last saved, and players with changes are tracked in a set.
+     * Saving drains the changes, so only the changed cooldowns are written.
+     * </p>
+     * <p>
+     * Changes from other servers for players who are not loaded are staged for {@value #STAGED_TTL} milliseconds, and merged once the player joins.
+     * Changes which failed to save after the player was unloaded are kept until the next drain retries them, or until the player is loaded again.
      * </p>
      */
     private static final class CooldownStorage {
-        private final Table<UUID, CooldownType, Instant> cooldowns = Tables.synchronizedTable(HashBasedTable.create());
+        private static final VarHandle EXPIRY = MethodHandles.arrayElementVarHandle(long[].class);
+        private static final long NONE = 0L;
+        private static final int TYPES = CooldownType.values().length;
+        private static final int VERSIONS = TYPES; // Offset of the per type versions
+        private static final int DIRTY = TYPES * 2; // Index of the changed types bit mask
+        private static final long STAGED_TTL = 60_000L;
+        private static final long STAGED_SWEEP_INTERVAL = 1_000L;
+
+        static {
+            if (TYPES > Long.SIZE)
+                throw new IllegalStateException("At most %d cooldown types are supported!".formatted(Long.SIZE));
+        }
+
+        private final Map<UUID, long[]> cooldowns = new ConcurrentHashMap<>();
+        private final Set<UUID> dirty = ConcurrentHashMap.newKeySet();
+        private final Map<UUID, Staged> staged = new ConcurrentHashMap<>();
+        private final Map<UUID, Map<CooldownType, CooldownChange>> unsaved = new ConcurrentHashMap<>(); // Failed saves of unloaded players
+        private long lastStagedSweep = 0L;
+        private final ExpiryWheel expiries = new ExpiryWheel(System.currentTimeMillis());
 
         private CooldownStorage() {
         }
 
+        /**
+         * Gets the expiry times of a player, creating them if absent.
+         *
+         * @param uuid the player's UUID
+         * @return the expiry times
+         */
+        private long[] row(UUID uuid) {
+            final long[] row = cooldowns.get(uuid);
+            if (row != null)
+                return row;
+
+            return cooldowns.computeIfAbsent(uuid, k -> new long[TYPES * 2 + 1]);
+        }
+
+        /**
+         * Gets the raw expiry time for a specific player and type.
+         *
+         * @param uuid the player's UUID
+         * @param type the cooldown type
+         * @return the expiry time in epoch milliseconds, or {@value #NONE} if no cooldown exists
+         */
+        public long expiry(UUID uuid, CooldownType type) {
+            final long[] row = cooldowns.get(uuid);
+            if (row == null)
+                return NONE;
+
+            return (long) EXPIRY.getAcquire(row, type.ordinal());
+        }
+
+        private static long toMillis(Instant instant) {
+            try {
+                return instant.toEpochMilli();
+            } catch (ArithmeticException e) {
+                return instant.isBefore(Instant.EPOCH) ? Long.MIN_VALUE : Long.MAX_VALUE;
+            }
+        }
+
+        @Nullable
+        private static Instant toInstant(long expiry) {
+            return expiry == NONE ? null : Instant.ofEpochMilli(expiry);
+        }
+
         /**
          * Sets a cooldown for a specific player and type.
          *
@@ -86,7 +258,7 @@ public final class Cooldowns {
          */
         @Nullable
         public Instant set(UUID uuid, CooldownType type, Instant expiresAt) {
-            return cooldowns.put(uuid, type, expiresAt);
+            return toInstant(setMillis(uuid, type, toMillis(expiresAt)));
         }
 
         /**
@@ -98,7 +270,7 @@ public final class Cooldowns {
          */
         @Nullable
         public Instant get(UUID uuid, CooldownType type) {
-            return cooldowns.get(uuid, type);
+            return toInstant(expiry(uuid, type));
         }
 
         /**
@@ -109,8 +281,134 @@ public final class Cooldowns {
          * @return true if the player has an active cooldown, false otherwise
          */
         public boolean has(UUID uuid, CooldownType type) {
-            final @Nullable Instant cooldown = cooldowns.get(uuid, type);
-            return cooldown != null && Instant.now().isBefore(cooldown);
+            final long expiry = expiry(uuid, type);
+            return expiry != NONE && System.currentTimeMillis() < expiry;
+        }
+
+        /**
+         * Sets a cooldown for a specific player and type.
+         *
+         * @param uuid   the player's UUID
+         * @param type   the cooldown type
+         * @param expiry the expiry time in epoch milliseconds
+         * @return the previous expiry time, or {@value #NONE} if none existed
+         */
+        public long setMillis(UUID uuid, CooldownType type, long expiry) {
+            return write(uuid, row(uuid), type, expiry);
+        }
+
+        /**
+         * Writes a local change, bumping its version, marking it as changed and publishing it to other servers.
+         *
+         * @return the previous expiry time
+         */
+        private long write(UUID uuid, long[] row, CooldownType type, long expiry) {
+            final int ordinal = type.ordinal();
+            final long previous;
+            final long version;
+            synchronized (row) {
+                version = Math.max(System.currentTimeMillis(), (long) EXPIRY.getAcquire(row, VERSIONS + ordinal) + 1);
+                previous = (long) EXPIRY.getAndSetRelease(row, ordinal, expiry);
+                EXPIRY.setRelease(row, VERSIONS + ordinal, version);
+            }
+
+            if (expiry != NONE)
+                expiries.schedule(new ExpiryWheel.Entry(uuid, type, expiry));
+            if (previous != expiry) {
+                markDirty(uuid, row, type);
+                publish(new CooldownSync(uuid, type, expiry, version));
+            }
+            return previous;
+        }
+
+        /**
+         * Merges a change from another server using last-writer-wins. Changes for players who are not loaded are staged until they are.
+         *
+         * @param sync the change
+         * @return whether the change was applied
+         */
+        public boolean merge(CooldownSync sync) {
+            final long[] row = cooldowns.get(sync.uuid());
+            if (row == null) {
+                staged.compute(sync.uuid(), (uuid, existing) -> (existing == null ? new Staged() : existing).add(sync));
+                return false;
+            }
+
+            return merge(row, sync);
+        }
+
+        private boolean merge(long[] row, CooldownSync sync) {
+            final int ordinal = sync.type().ordinal();
+            synchronized (row) {
+                final long version = (long) EXPIRY.getAcquire(row, VERSIONS + ordinal);
+                final long expiry = (long) EXPIRY.getAcquire(row, ordinal);
+                if (sync.version() < version || (sync.version() == version && sync.expiry() <= expiry))
+                    return false;
+
+                EXPIRY.setRelease(row, ordinal, sync.expiry());
+                EXPIRY.setRelease(row, VERSIONS + ordinal, sync.version());
+            }
+
+            if (sync.expiry() != NONE)
+                expiries.schedule(new ExpiryWheel.Entry(sync.uuid(), sync.type(), sync.expiry()));
+            return true; // The originating server saves the change, so it is not marked as changed here
+        }
+
+        /**
+         * Sets cooldowns loaded from the database, without marking them as changed.
+         * Cooldowns already changed by this or another server are newer than the database and are kept.
+         *
+         * @param uuid      the player's UUID
+         * @param cooldowns the cooldowns to set
+         */
+        public void load(UUID uuid, Map<CooldownType, Instant> cooldowns) {
+            final long[] row = row(uuid);
+            cooldowns.forEach((type, expiresAt) -> {
+                final long expiry = toMillis(expiresAt);
+                synchronized (row) {
+                    if ((long) EXPIRY.getAcquire(row, VERSIONS + type.ordinal()) != 0L)
+                        return;
+                    EXPIRY.setRelease(row, type.ordinal(), expiry);
+                }
+                expiries.schedule(new ExpiryWheel.Entry(uuid, type, expiry));
+            });
+
+            final Map<CooldownType, CooldownChange> retry = unsaved.remove(uuid);
+            if (retry != null) { // Newer than the database, as saving them failed
+                for (CooldownChange change : retry.values()) {
+                    synchronized (row) {
+                        if ((long) EXPIRY.getAcquire(row, VERSIONS + change.type().ordinal()) != 0L)
+                            continue;
+                        EXPIRY.setRelease(row, change.type().ordinal(), change.expiry());
+                    }
+                    if (!change.isRemoval())
+                        expiries.schedule(new ExpiryWheel.Entry(uuid, change.type(), change.expiry()));
+                    markDirty(uuid, row, change.type());
+                }
+            }
+
+            final Staged changes = staged.remove(uuid);
+            if (changes != null) {
+                for (CooldownSync sync : changes.changes) {
+                    if (sync != null)
+                        merge(row, sync);
+                }
+            }
+        }
+
+        /**
+         * Gets the remaining cooldown time for a specific player and type.
+         *
+         * @param uuid the player's UUID
+         * @param type the cooldown type
+         * @return the remaining time in milliseconds, or 0 if no active cooldown
+         */
+        public long remainingMillis(UUID uuid, CooldownType type) {
+            final long expiry = expiry(uuid, type);
+            if (expiry == NONE)
+                return 0L;
+
+            return Math.max(0L, expiry - System.currentTimeMillis());
         }
 
         /**
@@ -122,7 +420,11 @@ public final class Cooldowns {
          */
         @Nullable
         public Instant remove(UUID uuid, CooldownType type) {
-            return cooldowns.remove(uuid, type);
+            final long[] row = cooldowns.get(uuid);
+            if (row == null)
+                return null;
+
+            return toInstant(write(uuid, row, type, NONE));
         }
 
         /**
@@ -131,7 +433,90 @@ public final class Cooldowns {
          * @param uuid the player's UUID
          */
         public void removeAll(UUID uuid) {
-            cooldowns.row(uuid).clear();
+            final long[] row = cooldowns.get(uuid);
+            if (row == null)
+                return;
+
+            for (CooldownType type : CooldownType.values()) {
+                if ((long) EXPIRY.getAcquire(row, type.ordinal()) != NONE)
+                    write(uuid, row, type, NONE);
+            }
+        }
+
+        /**
+         * Drops all cooldowns of a player from memory, along with any unsaved changes.
+         *
+         * @param uuid the player's UUID
+         */
+        public void unload(UUID uuid) {
+            cooldowns.remove(uuid);
+            dirty.remove(uuid);
+        }
+
+        private void markDirty(UUID uuid, long[] row, CooldownType type) {
+            EXPIRY.getAndBitwiseOrRelease(row, DIRTY, 1L << type.ordinal());
+            dirty.add(uuid); // Added after the mask is set, a concurrent drain either sees the mask or the player again
+        }
+
+        /**
+         * Marks cooldowns as changed again, i.e. after saving them failed. Changes of players who have been unloaded are kept until the next drain, or until the player is loaded again.
+         *
+         * @param changes the changes
+         */
+        public void markDirty(Collection<CooldownChange> changes) {
+            for (CooldownChange change : changes) {
+                final long[] row = cooldowns.get(change.uuid());
+                if (row != null) {
+                    markDirty(change.uuid(), row, change.type());
+                } else {
+                    unsaved.computeIfAbsent(change.uuid(), k -> new ConcurrentHashMap<>()).put(change.type(), change);
+                }
+            }
+        }
+
+        /**
+         * Collects and resets the cooldowns changed since the last drain. Cooldowns which have expired are reported as removed.
+         *
+         * @param now the current time in epoch milliseconds
+         * @return the changes
+         */
+        public List<CooldownChange> drain(long now) {
+            final List<CooldownChange> changes = new ArrayList<>();
+            for (UUID uuid : dirty) {
+                dirty.remove(uuid);
+                drain(uuid, now, changes);
+            }
+            for (UUID uuid : unsaved.keySet()) {
+                final Map<CooldownType, CooldownChange> retry = unsaved.remove(uuid);
+                if (retry == null)
+                    continue;
+
+                for (CooldownChange change : retry.values())
+                    changes.add(change.isRemoval() || change.expiry() > now ? change : new CooldownChange(uuid, change.type(), NONE));
+            }
+            return changes;
+        }
+
+        /**
+         * Collects and resets the cooldowns of a player changed since the last drain.
+         *
+         * @param uuid    the player's UUID
+         * @param now     the current time in epoch milliseconds
+         * @param changes the list to add the changes to
+         */
+        public void drain(UUID uuid, long now, List<CooldownChange> changes) {
+            final long[] row = cooldowns.get(uuid);
+            if (row == null)
+                return;
+
+            long mask = (long) EXPIRY.getAndSet(row, DIRTY, 0L);
+            while (mask != 0) {
+                final int ordinal = Long.numberOfTrailingZeros(mask);
+                mask &= mask - 1;
+
+                final long expiry = (long) EXPIRY.getAcquire(row, ordinal);
+                changes.add(new CooldownChange(uuid, CooldownType.values()[ordinal], expiry > now ? expiry : NONE));
+            }
         }
 
         /**
@@ -146,16 +531,89 @@ public final class Cooldowns {
          * @return the remaining cooldown duration, or {@link Duration#ZERO} if no active cooldown
          */
         public Duration getRemaining(UUID uuid, CooldownType type) {
-            final Instant cooldown = cooldowns.get(uuid, type);
-            final Instant now = Instant.now();
-            if (cooldown != null && now.isBefore(cooldown)) {
-                return Duration.between(now, cooldown);
+            final long expiry = expiry(uuid, type);
+            final long now = System.currentTimeMillis();
+            if (expiry != NONE && now < expiry) {
+                return Duration.ofMillis(expiry - now);
             } else {
-                remove(uuid, type);
+                if (expiry != NONE)
+                    clear(uuid, type, expiry);
                 return Duration.ZERO;
             }
         }
 
+        /**
+         * Removes all cooldowns which expired since the last call.
+         *
+         * @param now the current time in epoch milliseconds
+         * @return the removed cooldowns
+         */
+        public List<ExpiryWheel.Entry> expire(long now) {
+            if (!staged.isEmpty() && now - lastStagedSweep >= STAGED_SWEEP_INTERVAL) {
+                lastStagedSweep = now;
+                staged.values().removeIf(changes -> now - changes.stagedAt > STAGED_TTL); // The player never joined this server
+            }
+
+            final List<ExpiryWheel.Entry> candidates = expiries.advance(now);
+            if (candidates.isEmpty())
+                return List.of();
+
+            final List<ExpiryWheel.Entry> expired = new ArrayList<>(candidates.size());
+            for (ExpiryWheel.Entry entry : candidates) {
+                final long[] row = cooldowns.get(entry.uuid());
+                if (row != null && clearExpired(row, entry.type().ordinal(), entry.expiry())) { // Skip cooldowns which were changed or removed since being scheduled
+                    markDirty(entry.uuid(), row, entry.type());
+                    expired.add(entry);
+                }
+            }
+            return expired;
+        }
+
+        /**
+         * Removes an expired cooldown, unless it was replaced in the meantime.
+         *
+         * @param uuid   the player's UUID
+         * @param type   the cooldown type
+         * @param expiry the expired expiry time
+         */
+        private void clear(UUID uuid, CooldownType type, long expiry) {
+            final long[] row = cooldowns.get(uuid);
+            if (row != null && clearExpired(row, type.ordinal(), expiry))
+                markDirty(uuid, row, type);
+        }
+
+        /**
+         * Removes an expired cooldown unless it was changed in the meantime, bumping its version like {@link #write} so an older change from another server can not restore it.
+         *
+         * @return whether the cooldown was removed
+         */
+        private boolean clearExpired(long[] row, int ordinal, long expiry) {
+            synchronized (row) {
+                if ((long) EXPIRY.getAcquire(row, ordinal) != expiry)
+                    return false;
+
+                final long version = Math.max(System.currentTimeMillis(), (long) EXPIRY.getAcquire(row, VERSIONS + ordinal) + 1);
+                EXPIRY.setRelease(row, ordinal, NONE);
+                EXPIRY.setRelease(row, VERSIONS + ordinal, version);
+            }
+            return true;
+        }
+
+        /**
+         * Changes from other servers for a player who is not loaded, keeping the newest change per cooldown type.
+         */
+        private static final class Staged {
+            private final long stagedAt = System.currentTimeMillis();
+            private final CooldownSync[] changes = new CooldownSync[TYPES];
+
+            private Staged add(CooldownSync sync) {
+                final CooldownSync existing = changes[sync.type().ordinal()];
+                if (existing == null || existing.version() < sync.version() || (existing.version() == sync.version() && existing.expiry() < sync.expiry()))
+                    changes[sync.type().ordinal()] = sync;
+                return this;
+            }
+        }
+
         /**
          * Formats the remaining cooldown duration into a human-readable string.
          * <p>
@@ -197,7 +655,7 @@ public final class Cooldowns {
      */
     @Nullable
     public static Instant set(UUID uuid, CooldownType type, Duration duration) {
-        return set(uuid, type, Instant.now().plus(duration));
+        return set(uuid, type, Instant.ofEpochMilli(System.currentTimeMillis()).plus(duration));
     }
 
     /**
@@ -304,6 +762,53 @@ public final class Cooldowns {
         return formatRemaining(uuid, type, TimeFormat.DETAILED);
     }
 
+    /**
+     * Sets a cooldown for a player using milliseconds from now, without allocating.
+     *
+     * @param uuid     the player's UUID
+     * @param type     the cooldown type
+     * @param duration the cooldown duration in milliseconds
+     * @return the previous expiry time in epoch milliseconds, or 0 if none existed
+     */
+    public static long setMillis(UUID uuid, CooldownType type, long duration) {
+        return getInstance().setMillis(uuid, type, System.currentTimeMillis() + duration);
+    }
+
+    /**
+     * Checks if a player has an active cooldown for a specific type with more than the given time remaining.
+     * {@code hasMillis(uuid, type, 0)} is equivalent to {@link #has(UUID, CooldownType)}.
+     *
+     * @param uuid   the player's UUID
+     * @param type   the cooldown type
+     * @param millis the remaining time in milliseconds to exceed
+     * @return true if more than the given time remains, false otherwise
+     */
+    public static boolean hasMillis(UUID uuid, CooldownType type, long millis) {
+        return getInstance().remainingMillis(uuid, type) > millis;
+    }
+
+    /**
+     * Gets the remaining cooldown time for a specific player and type, without allocating.
+     *
+     * @param uuid the player's UUID
+     * @param type the cooldown type
+     * @return the remaining time in milliseconds, or 0 if no active cooldown
+     */
+    public static long remainingMillis(UUID uuid, CooldownType type) {
+        return getInstance().remainingMillis(uuid, type);
+    }
+
+    /**
+     * Gets the cooldown expiration time for a specific player and type, without allocating.
+     *
+     * @param uuid the player's UUID
+     * @param type the cooldown type
+     * @return the expiry time in epoch milliseconds, or 0 if no cooldown exists
+     */
+    public static long getMillis(UUID uuid, CooldownType type) {
+        return getInstance().expiry(uuid, type);
+    }
+
     /**
      * Sets a cooldown for a player using an absolute expiration time.
      *
@@ -435,6 +940,52 @@ public final class Cooldowns {
         return formatRemaining(player.getUniqueId(), type);
     }
 
+    /**
+     * Sets a cooldown for a player using milliseconds from now, without allocating.
+     *
+     * @param player   the offline player
+     * @param type     the cooldown type
+     * @param duration the cooldown duration in milliseconds
+     * @return the previous expiry time in epoch milliseconds, or 0 if none existed
+     */
+    public static long setMillis(OfflinePlayer player, CooldownType type, long duration) {
+        return setMillis(player.getUniqueId(), type, duration);
+    }
+
+    /**
+     * Checks if a player has an active cooldown for a specific type with more than the given time remaining.
+     *
+     * @param player the offline player
+     * @param type   the cooldown type
+     * @param millis the remaining time in milliseconds to exceed
+     * @return true if more than the given time remains, false otherwise
+     */
+    public static boolean hasMillis(OfflinePlayer player, CooldownType type, long millis) {
+        return hasMillis(player.getUniqueId(), type, millis);
+    }
+
+    /**
+     * Gets the remaining cooldown time for a specific player and type, without allocating.
+     *
+     * @param player the offline player
+     * @param type   the cooldown type
+     * @return the remaining time in milliseconds, or 0 if no active cooldown
+     */
+    public static long remainingMillis(OfflinePlayer player, CooldownType type) {
+        return remainingMillis(player.getUniqueId(), type);
+    }
+
+    /**
+     * Gets the cooldown expiration time for a specific player and type, without allocating.
+     *
+     * @param player the offline player
+     * @param type   the cooldown type
+     * @return the expiry time in epoch milliseconds, or 0 if no cooldown exists
+     */
+    public static long getMillis(OfflinePlayer player, CooldownType type) {
+        return getMillis(player.getUniqueId(), type);
+    }
+
     /**
      * Enum for different time formatting styles.
      */
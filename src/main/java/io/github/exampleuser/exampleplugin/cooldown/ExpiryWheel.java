@@ -0,0 +1,136 @@
+package io.github.exampleuser.exampleplugin.cooldown;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A hierarchical timing wheel tracking when cooldowns expire, with a resolution of one server tick.
+ * <p>
+ * The wheel has {@value #LEVELS} levels of {@value #SLOTS} slots, each level spanning {@value #SLOTS} times the previous one, covering roughly 9.7 days. Cooldowns further out are parked in the last slot of the top level and rescheduled once it is reached.
+ * Scheduling and advancing by a tick are O(1), entries are only touched again when their slot cascades down a level or expires.
+ * <p>
+ * Any thread may schedule entries, they are queued and moved into the wheel by the thread advancing it. Entries are never removed when a cooldown is changed, the caller checks whether an expired entry is still current.
+ */
+@ApiStatus.Internal
+final class ExpiryWheel {
+    static final long TICK = 50L;
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+
+    private final Queue<Entry> scheduled = new ConcurrentLinkedQueue<>();
+    private final List<Entry>[][] wheel;
+    private long currentTick;
+
+    /**
+     * Instantiates a new expiry wheel.
+     *
+     * @param now the current time in epoch milliseconds
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    ExpiryWheel(long now) {
+        this.wheel = new List[LEVELS][SLOTS];
+        this.currentTick = now / TICK;
+    }
+
+    /**
+     * Schedule an expiry.
+     *
+     * @param entry the entry
+     */
+    void schedule(Entry entry) {
+        scheduled.offer(entry);
+    }
+
+    /**
+     * Advance the wheel to the current time.
+     *
+     * @param now the current time in epoch milliseconds
+     * @return the entries which expired since the last advance, in no particular order
+     */
+    synchronized List<Entry> advance(long now) {
+        final List<Entry> expired = new ArrayList<>();
+
+        Entry entry;
+        while ((entry = scheduled.poll()) != null)
+            insert(entry, expired);
+
+        final long targetTick = now / TICK;
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            // Move entries down from every level whose slot rolled over, highest level first
+            int level = 1;
+            while (level < LEVELS && (currentTick & ((1L << (BITS * level)) - 1)) == 0)
+                level++;
+            for (int l = level - 1; l >= 1; l--)
+                cascade(l, expired);
+
+            final List<Entry> slot = take(0, (int) (currentTick & MASK));
+            if (slot != null)
+                expired.addAll(slot);
+        }
+
+        return expired;
+    }
+
+    private void cascade(int level, List<Entry> expired) {
+        final List<Entry> slot = take(level, (int) ((currentTick >>> (BITS * level)) & MASK));
+        if (slot == null)
+            return;
+
+        for (Entry entry : slot)
+            insert(entry, expired);
+    }
+
+    private void insert(Entry entry, List<Entry> expired) {
+        final long expiryTick = Math.ceilDiv(entry.expiry(), TICK);
+        final long delta = expiryTick - currentTick;
+        if (delta <= 0) {
+            expired.add(entry);
+            return;
+        }
+
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (BITS * (level + 1))) {
+                put(level, (int) ((expiryTick >>> (BITS * level)) & MASK), entry);
+                return;
+            }
+        }
+
+        // Beyond the wheel, park in the top level slot reached last and reschedule from there
+        final int top = LEVELS - 1;
+        put(top, (int) (((currentTick >>> (BITS * top)) - 1) & MASK), entry);
+    }
+
+    private void put(int level, int slot, Entry entry) {
+        List<Entry> entries = wheel[level][slot];
+        if (entries == null) {
+            entries = new ArrayList<>();
+            wheel[level][slot] = entries;
+        }
+        entries.add(entry);
+    }
+
+    private List<Entry> take(int level, int slot) {
+        final List<Entry> entries = wheel[level][slot];
+        wheel[level][slot] = null;
+        return entries;
+    }
+
+    /**
+     * A scheduled cooldown expiry.
+     *
+     * @param uuid   the player's UUID
+     * @param type   the cooldown type
+     * @param expiry the expiry time in epoch milliseconds
+     */
+    record Entry(UUID uuid, CooldownType type, long expiry) {
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.exampleuser.exampleplugin.cooldown.event;
+
+import io.github.exampleuser.exampleplugin.cooldown.CooldownType;
+import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Fired on the main thread when a player's cooldown runs out. Cooldowns expiring during the same tick are fired together.
+ *
+ * @implNote This event is not fired for cooldowns which are removed or replaced before they expire, or during the Bukkit servers {@link JavaPlugin#onLoad()} or {@link JavaPlugin#onDisable()}.
+ */
+@SuppressWarnings("unused")
+public class CooldownExpireEvent extends Event {
+    private static final HandlerList HANDLER_LIST = new HandlerList();
+    private final UUID uuid;
+    private final CooldownType type;
+    private final long expiry;
+
+    public CooldownExpireEvent(final UUID uuid, final CooldownType type, final long expiry) {
+        this.uuid = uuid;
+        this.type = type;
+        this.expiry = expiry;
+    }
+
+    public UUID getUUID() {
+        return uuid;
+    }
+
+    public CooldownType getType() {
+        return type;
+    }
+
+    public Instant getExpiredAt() {
+        return Instant.ofEpochMilli(expiry);
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLER_LIST;
+    }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return HANDLER_LIST;
+    }
+}
@@ -1,39 +1,82 @@
 package io.github.exampleuser.exampleplugin.cooldown.listener;
 
 import io.github.exampleuser.exampleplugin.ExamplePlugin;
+import io.github.exampleuser.exampleplugin.cooldown.CooldownChange;
+import io.github.exampleuser.exampleplugin.cooldown.CooldownSync;
+import io.github.exampleuser.exampleplugin.cooldown.CooldownType;
 import io.github.exampleuser.exampleplugin.cooldown.Cooldowns;
 import io.github.exampleuser.exampleplugin.database.Queries;
+import io.github.exampleuser.exampleplugin.messenger.event.SyncMessageEvent;
+import io.github.exampleuser.exampleplugin.utility.DB;
 import io.github.milkdrinkers.threadutil.Scheduler;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 @SuppressWarnings({"unused", "FieldCanBeLocal", "CodeBlock2Expr"})
 class CooldownListener implements Listener {
     private final ExamplePlugin plugin;
+    private final CooldownPreloader preloader = new CooldownPreloader();
 
     public CooldownListener(ExamplePlugin plugin) {
         this.plugin = plugin;
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent e) {
+        if (e.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED)
+            return;
+
+        preloader.preload(e.getUniqueId()); // Load before joining so cooldowns apply from the first tick
+    }
+
     @EventHandler
     public void onJoin(PlayerJoinEvent e) {
+        final Map<CooldownType, Instant> cooldowns = preloader.take(e.getPlayer().getUniqueId());
+        if (cooldowns != null) {
+            Cooldowns.load(e.getPlayer().getUniqueId(), cooldowns);
+            return;
+        }
+
         Scheduler.async(() -> {
-                Queries.Cooldown.load(e.getPlayer()).forEach((cooldownType, instant) -> {
-                    Cooldowns.set(e.getPlayer(), cooldownType, instant);
-                });
+                Cooldowns.load(e.getPlayer().getUniqueId(), Queries.Cooldown.load(e.getPlayer()));
             })
             .execute();
-
     }
 
     @EventHandler
     public void onQuit(PlayerQuitEvent e) {
-        Scheduler.async(() -> {
-                Queries.Cooldown.save(e.getPlayer());
-                Cooldowns.removeAll(e.getPlayer());
-            })
-            .execute();
+        final UUID uuid = e.getPlayer().getUniqueId();
+        final List<CooldownChange> changes = Cooldowns.drainChanges(uuid); // Drained on the main thread so a shutdown flush never saves them twice or misses them
+        Cooldowns.unload(uuid);
+        if (changes.isEmpty())
+            return;
+
+        if (!DB.isReady()) {
+            Cooldowns.markDirty(changes); // Kept until the database is available for the autosave or the shutdown flush
+            return;
+        }
+
+        DB.getWriteQueue().execute(() -> {
+            if (!Queries.Cooldown.save(changes))
+                Cooldowns.markDirty(changes); // Retried by the next autosave or the shutdown flush
+        });
+    }
+
+    @EventHandler
+    public void onSync(SyncMessageEvent e) {
+        if (!e.getMessage().getChannelID().equals(CooldownSync.CHANNEL))
+            return;
+
+        if (e.getMessage().getPayload() instanceof CooldownSync sync)
+            Cooldowns.merge(sync);
     }
 }
@@ -0,0 +1,107 @@
+package io.github.exampleuser.exampleplugin.cooldown.listener;
+
+import io.github.exampleuser.exampleplugin.cooldown.CooldownType;
+import io.github.exampleuser.exampleplugin.database.Queries;
+import io.github.exampleuser.exampleplugin.utility.Logger;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Loads the cooldowns of logging in players before they join, staging them until the join event attaches them.
+ * <p>
+ * Logins arriving within {@value #BATCH_WINDOW} milliseconds of each other are loaded with a single query. The first login thread of a batch waits for the window to pass and runs the query, the others wait for its result.
+ * Staged cooldowns are discarded after {@value #STAGED_TTL} milliseconds, if the player was kicked before joining.
+ */
+final class CooldownPreloader {
+    private static final long BATCH_WINDOW = 20L;
+    private static final long LOAD_TIMEOUT = 5_000L;
+    private static final long STAGED_TTL = 30_000L;
+
+    private final Map<UUID, CompletableFuture<Map<CooldownType, Instant>>> queued = new HashMap<>(); // Guarded by this
+    private final Map<UUID, Staged> staged = new ConcurrentHashMap<>();
+    private boolean batching = false; // Guarded by this
+
+    /**
+     * Load and stage a player's cooldowns, blocking the calling login thread until they are loaded or {@value #LOAD_TIMEOUT} milliseconds passed.
+     *
+     * @param uuid the player's UUID
+     */
+    void preload(UUID uuid) {
+        final CompletableFuture<Map<CooldownType, Instant>> future;
+        final boolean leader;
+        synchronized (this) {
+            future = queued.computeIfAbsent(uuid, k -> new CompletableFuture<>());
+            leader = !batching;
+            batching = true;
+        }
+
+        if (leader) {
+            try {
+                Thread.sleep(BATCH_WINDOW); // Let concurrent logins join the batch
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flush();
+        }
+
+        try {
+            staged.put(uuid, new Staged(System.currentTimeMillis(), future.get(LOAD_TIMEOUT, TimeUnit.MILLISECONDS)));
+        } catch (TimeoutException | ExecutionException e) {
+            Logger.get().warn("Failed to load cooldowns of {} before joining, loading them after joining instead", uuid);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        final long now = System.currentTimeMillis();
+        staged.values().removeIf(s -> now - s.stagedAt() > STAGED_TTL);
+    }
+
+    private void flush() {
+        final Map<UUID, CompletableFuture<Map<CooldownType, Instant>>> batch;
+        synchronized (this) {
+            batch = new HashMap<>(queued);
+            queued.clear();
+            batching = false;
+        }
+
+        try {
+            final Optional<Map<UUID, Map<CooldownType, Instant>>> loaded = Queries.Cooldown.load(batch.keySet());
+            if (loaded.isEmpty()) {
+                final IllegalStateException e = new IllegalStateException("Failed to load cooldowns");
+                batch.values().forEach(future -> future.completeExceptionally(e));
+                return;
+            }
+
+            batch.forEach((uuid, future) -> future.complete(loaded.get().getOrDefault(uuid, Map.of())));
+        } catch (RuntimeException e) {
+            batch.values().forEach(future -> future.completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Take the staged cooldowns of a joining player.
+     *
+     * @param uuid the player's UUID
+     * @return the cooldowns, or null if they were not loaded in time
+     */
+    @Nullable Map<CooldownType, Instant> take(UUID uuid) {
+        final Staged s = staged.remove(uuid);
+        if (s == null || System.currentTimeMillis() - s.stagedAt() > STAGED_TTL)
+            return null;
+
+        return s.cooldowns();
+    }
+
+    private record Staged(long stagedAt, Map<CooldownType, Instant> cooldowns) {
+    }
+}
@@ -1,8 +1,12 @@
 package io.github.exampleuser.exampleplugin.database;
 
+import io.github.exampleuser.exampleplugin.cooldown.CooldownChange;
 import io.github.exampleuser.exampleplugin.cooldown.CooldownType;
 import io.github.exampleuser.exampleplugin.cooldown.Cooldowns;
+import io.github.exampleuser.exampleplugin.database.config.DatabaseConfig;
 import io.github.exampleuser.exampleplugin.database.handler.DatabaseType;
+import io.github.exampleuser.exampleplugin.database.jooq.QueryTemplate;
+import io.github.exampleuser.exampleplugin.database.schema.tables.records.CooldownsPackedRecord;
 import io.github.exampleuser.exampleplugin.database.schema.tables.records.CooldownsRecord;
 import io.github.exampleuser.exampleplugin.messenger.message.IncomingMessage;
 import io.github.exampleuser.exampleplugin.messenger.message.Message;
@@ -14,13 +18,22 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jooq.*;
+import org.jooq.exception.DataAccessException;
+import org.jooq.exception.SQLStateClass;
 
 import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static io.github.exampleuser.exampleplugin.database.QueryUtils.BooleanUtil;
 import static io.github.exampleuser.exampleplugin.database.QueryUtils.UUIDUtil;
@@ -32,6 +45,11 @@ import static org.jooq.impl.DSL.*;
  */
 @SuppressWarnings({"LoggingSimilarMessage", "StringConcatenationArgumentToLogCall"})
 public final class Queries {
+    /**
+     * The default amount of rows fetched per round trip by streaming queries.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
     /**
      * Example add data to database.
      * <p>
@@ -39,7 +57,7 @@ public final class Queries {
      */
     public static void upsert() {
         try (
-            Connection con = DB.getConnection()
+            Connection con = DB.write()
         ) {
             DSLContext context = DB.getContext(con);
 
@@ -66,7 +84,7 @@ public final class Queries {
      */
     public static @Nullable BigInteger upsertReturning() {
         try (
-            Connection con = DB.getConnection()
+            Connection con = DB.write()
         ) {
             DSLContext context = DB.getContext(con);
 
@@ -103,7 +121,7 @@ public final class Queries {
      */
     public static void saveAll() {
         try (
-            @NotNull Connection con = DB.getConnection()
+            @NotNull Connection con = DB.write()
         ) {
             DSLContext context = DB.getContext(con);
 
@@ -140,7 +158,7 @@ public final class Queries {
      */
     public static void saveAllTransaction() {
         try (
-            @NotNull Connection con = DB.getConnection()
+            @NotNull Connection con = DB.write()
         ) {
             DSLContext context = DB.getContext(con);
 
@@ -176,14 +194,14 @@ public final class Queries {
     /**
      * Example load all data from database.
      * <p>
-     * You should make this method return whatever it is you're grabbing from database.
+     * You should make this method return whatever it is you're grabbing from database. Reads like this one, which tolerate slightly stale data, use {@link DB#read()} so read replicas serve them.
      *
      * @return the result
      */
     @SuppressWarnings("UnusedReturnValue")
     public static @Nullable Result<Record2<String, byte[]>> loadAll() {
         try (
-            Connection con = DB.getConnection()
+            Connection con = DB.read()
         ) {
             DSLContext context = DB.getContext(con);
 
@@ -197,18 +215,163 @@ public final class Queries {
         return null;
     }
 
+    /**
+     * Example streaming load all data from database.
+     * <p>
+     * Rows are pulled from an open JDBC cursor {@code fetchSize} rows at a time, or row by row on MySQL, and handed to the consumer one by one, so memory usage stays bounded regardless of table size.
+     * The connection is held for the whole iteration, keep the consumer cheap.
+     * Read <a href="https://www.jooq.org/doc/latest/manual/sql-execution/fetching/lazy-fetching/">jOOQ Lazy Fetching Documentation</a> for more info.
+     *
+     * @param fetchSize the amount of rows fetched per round trip, ignored on MySQL which streams rows one by one
+     * @param consumer  the consumer receiving each row
+     * @return the amount of rows processed
+     */
+    public static long loadAllLazy(int fetchSize, Consumer<Record2<String, byte[]>> consumer) {
+        long rows = 0;
+        try (
+            Connection con = DB.read()
+        ) {
+            DSLContext context = DB.getContext(con);
+
+            try (
+                Cursor<Record2<String, byte[]>> cursor = context
+                    .select(SOME_LIST._NAME, SOME_LIST.UUID)
+                    .from(SOME_LIST)
+                    .fetchSize(streamingFetchSize(fetchSize))
+                    .fetchLazy()
+            ) {
+                for (Record2<String, byte[]> record : cursor) {
+                    consumer.accept(record);
+                    rows++;
+                }
+            }
+        } catch (SQLException e) {
+            Logger.get().error("SQL Query threw an error!", e);
+        }
+        return rows;
+    }
+
+    /**
+     * Example streaming load all data from database using {@link #DEFAULT_FETCH_SIZE}.
+     *
+     * @param consumer the consumer receiving each row
+     * @return the amount of rows processed
+     * @see #loadAllLazy(int, Consumer)
+     */
+    public static long loadAllLazy(Consumer<Record2<String, byte[]>> consumer) {
+        return loadAllLazy(DEFAULT_FETCH_SIZE, consumer);
+    }
+
+    /**
+     * Example streaming load all data from database as a {@link Stream}.
+     * <p>
+     * The stream is only valid inside the function, as the underlying cursor and connection are closed once it returns.
+     * Read <a href="https://www.jooq.org/doc/latest/manual/sql-execution/fetching/lazy-fetching-with-streams/">jOOQ Stream Documentation</a> for more info.
+     *
+     * @param fetchSize the amount of rows fetched per round trip, ignored on MySQL which streams rows one by one
+     * @param function  the function reducing the stream into a result
+     * @param <R>       the result type
+     * @return the result or null if the query failed
+     */
+    public static <R> @Nullable R loadAllStream(int fetchSize, Function<Stream<Record2<String, byte[]>>, R> function) {
+        try (
+            Connection con = DB.read()
+        ) {
+            DSLContext context = DB.getContext(con);
+
+            try (
+                Stream<Record2<String, byte[]>> stream = context
+                    .select(SOME_LIST._NAME, SOME_LIST.UUID)
+                    .from(SOME_LIST)
+                    .fetchSize(streamingFetchSize(fetchSize))
+                    .fetchStream()
+            ) {
+                return function.apply(stream);
+            }
+        } catch (SQLException e) {
+            Logger.get().error("SQL Query threw an error!", e);
+        }
+        return null;
+    }
+
+    /**
+     * Gets the fetch size which makes the driver stream results instead of buffering them whole.
+     * MySQL Connector/J only streams with a fetch size of {@link Integer#MIN_VALUE}, honoring other fetch sizes would require {@code useCursorFetch} which turns every query of the connection into a server side cursor.
+     *
+     * @param fetchSize the amount of rows fetched per round trip
+     * @return the fetch size to use
+     */
+    private static int streamingFetchSize(int fetchSize) {
+        return DB.getDB().equals(DatabaseType.MYSQL) ? Integer.MIN_VALUE : fetchSize;
+    }
+
+    /**
+     * Example chunked load all data from database.
+     * <p>
+     * Uses keyset pagination on the primary key, each chunk is a separate short query which seeks past the last key of the previous chunk.
+     * The primary key index makes every chunk equally cheap, unlike {@code OFFSET} which rescans all skipped rows.
+     * Unlike {@link #loadAllLazy(int, Consumer)} no connection is held between chunks, making it suitable for slow consumers.
+     *
+     * @param chunkSize the maximum amount of rows per chunk
+     * @param consumer  the consumer receiving each chunk
+     * @return the amount of rows processed
+     */
+    public static long loadAllChunked(int chunkSize, Consumer<Result<Record2<String, byte[]>>> consumer) {
+        long rows = 0;
+        byte @Nullable [] lastKey = null;
+        while (true) {
+            final Result<Record2<String, byte[]>> chunk;
+            try (
+                Connection con = DB.read()
+            ) {
+                DSLContext context = DB.getContext(con);
+
+                chunk = context
+                    .select(SOME_LIST._NAME, SOME_LIST.UUID)
+                    .from(SOME_LIST)
+                    .where(lastKey == null ? noCondition() : SOME_LIST.UUID.greaterThan(lastKey)) // Seek past the previous chunk
+                    .orderBy(SOME_LIST.UUID.asc())
+                    .limit(chunkSize)
+                    .fetch();
+            } catch (SQLException e) {
+                Logger.get().error("SQL Query threw an error!", e);
+                break;
+            }
+
+            if (chunk.isEmpty())
+                break;
+
+            consumer.accept(chunk);
+            rows += chunk.size();
+
+            if (chunk.size() < chunkSize)
+                break;
+
+            lastKey = chunk.getLast().get(SOME_LIST.UUID);
+        }
+        return rows;
+    }
+
     /**
      * Holds all queries related to using the database as a messaging service.
      */
     @ApiStatus.Internal
     public static final class Sync {
+        private static final QueryTemplate RECEIVE = QueryTemplate.of(context -> context
+            .selectFrom(SYNC)
+            .where(SYNC.ID.greaterThan(param("latestSyncId", SYNC.ID.getDataType()))
+                .and(SYNC.TIMESTAMP.greaterOrEqual(localDateTimeSub(currentLocalDateTime(), param("cleanupInterval", Long.class), DatePart.SECOND))) // Checks TIMESTAMP >= now() - cleanupInterval
+            )
+            .orderBy(SYNC.ID.asc())
+        );
+
         /**
          * Fetch the latest (greatest) message ID from the database.
          * @return the message id or empty if no messages are queued
          */
         public static Optional<Integer> fetchLatestMessageId() {
             try (
-                Connection con = DB.getConnection()
+                Connection con = DB.readPrimary()
             ) {
                 DSLContext context = DB.getContext(con);
 
@@ -229,11 +392,11 @@ public final class Queries {
          */
         public static <T> Optional<Integer> send(OutgoingMessage<T> message) {
             try (
-                Connection con = DB.getConnection()
+                Connection con = DB.write()
             ) {
                 DSLContext context = DB.getContext(con);
 
-                return context
+                return context // Not a template, jOOQ fetches the generated id through JDBC generated keys or RETURNING depending on the dialect, which a rendered string can not
                     .insertInto(SYNC, SYNC.TIMESTAMP, SYNC.MESSAGE)
                     .values(
                         currentLocalDateTime(),
@@ -241,7 +404,7 @@ public final class Queries {
                     )
                     .returningResult(SYNC.ID)
                     .fetchOptional(0, Integer.class);
-            } catch (SQLException e) {
+            } catch (SQLException | DataAccessException e) {
                 Logger.get().error("SQL Query threw an error!" + e);
                 return Optional.empty();
             }
@@ -255,16 +418,13 @@ public final class Queries {
          */
         public static Map<Integer, IncomingMessage<?, ?>> receive(int latestSyncId, long cleanupInterval) {
             try (
-                Connection con = DB.getConnection()
+                Connection con = DB.readPrimary() // Polled every second, so kept off the writer connection. Replicas could skip messages committed out of order
             ) {
                 DSLContext context = DB.getContext(con);
 
                 return context
-                    .selectFrom(SYNC)
-                    .where(SYNC.ID.greaterThan(latestSyncId)
-                        .and(SYNC.TIMESTAMP.greaterOrEqual(localDateTimeSub(currentLocalDateTime(), cleanupInterval / 1000, DatePart.SECOND))) // Checks TIMESTAMP >= now() - cleanupInterval
-                    )
-                    .orderBy(SYNC.ID.asc())
+                    .resultQuery(DB.render(RECEIVE), latestSyncId, cleanupInterval / 1000)
+                    .coerce(SYNC)
                     .fetch()
                     .intoMap(SYNC.ID, r -> Message.from(r.getMessage()));
             } catch (SQLException e) {
@@ -279,7 +439,7 @@ public final class Queries {
          */
         public static void cleanup(long cleanupInterval) {
             try (
-                Connection con = DB.getConnection()
+                Connection con = DB.write()
             ) {
                 DSLContext context = DB.getContext(con);
 
@@ -295,44 +455,135 @@ public final class Queries {
 
     /**
      * Wrapper class to organize cooldown-related queries.
+     * <p>
+     * Cooldowns are stored in one of two layouts, see {@link DatabaseConfig#isPackedCooldowns()}. The row layout stores one row per player and cooldown type,
+     * the packed layout one row per player holding every cooldown packed by {@link QueryUtils.CooldownUtil}, so loading and saving a player reads and writes a single row.
      */
     public static final class Cooldown {
+        private static final int CHANGE_BATCH_SIZE = 500;
+        private static final int MAX_ATTEMPTS = 3; // Saves rolled back to resolve a deadlock are retried
+        private static volatile CompletableFuture<Integer> conversion = CompletableFuture.completedFuture(0);
+
+        private static final QueryTemplate LOAD = QueryTemplate.of(context -> context
+            .selectFrom(COOLDOWNS)
+            .where(COOLDOWNS.UUID.eq(param("uuid", COOLDOWNS.UUID.getDataType())))
+        );
+
+        private static final QueryTemplate LOAD_PACKED = QueryTemplate.of(context -> context
+            .select(COOLDOWNS_PACKED.COOLDOWNS)
+            .from(COOLDOWNS_PACKED)
+            .where(COOLDOWNS_PACKED.UUID.eq(param("uuid", COOLDOWNS_PACKED.UUID.getDataType())))
+        );
+
+        private static boolean isPacked() {
+            return DB.getHandler().getDatabaseConfig().isPackedCooldowns();
+        }
+
         public static Map<CooldownType, Instant> load(OfflinePlayer player) {
             return load(player.getUniqueId());
         }
 
         public static Map<CooldownType, Instant> load(UUID uuid) {
+            awaitConversion();
             try (
-                Connection con = DB.getConnection()
+                Connection con = DB.readPrimary() // Cooldowns may have been saved moments ago by the server the player left, replicas could still serve the old ones
             ) {
                 DSLContext context = DB.getContext(con);
 
+                if (isPacked()) {
+                    return context
+                        .resultQuery(DB.render(LOAD_PACKED), (Object) UUIDUtil.toBytes(uuid))
+                        .coerce(COOLDOWNS_PACKED.COOLDOWNS)
+                        .fetchOptional(COOLDOWNS_PACKED.COOLDOWNS)
+                        .map(packed -> toInstants(QueryUtils.CooldownUtil.unpack(packed)))
+                        .orElse(Collections.emptyMap());
+                }
+
                 final Result<CooldownsRecord> cooldownsRecords = context
-                    .selectFrom(COOLDOWNS)
-                    .where(COOLDOWNS.UUID.eq(UUIDUtil.toBytes(uuid)))
+                    .resultQuery(DB.render(LOAD), (Object) UUIDUtil.toBytes(uuid))
+                    .coerce(COOLDOWNS)
                     .fetch();
 
-                return cooldownsRecords.stream()
-                    .collect(Collectors.toMap(
-                        r -> CooldownType.valueOf(r.getCooldownType()),
-                        r -> QueryUtils.InstantUtil.fromDateTime(r.getCooldownTime())
-                    ));
+                final Map<CooldownType, Instant> cooldowns = new EnumMap<>(CooldownType.class);
+                for (CooldownsRecord r : cooldownsRecords) {
+                    final CooldownType type = typeOf(r.getCooldownType());
+                    if (type != null) // Skip cooldown types which no longer exist
+                        cooldowns.put(type, QueryUtils.InstantUtil.fromDateTime(r.getCooldownTime()));
+                }
+                return cooldowns;
             } catch (SQLException e) {
                 Logger.get().error("SQL Query threw an error!", e);
             }
             return Collections.emptyMap();
         }
 
+        /**
+         * Load the cooldowns of any amount of players, using one query per {@value #CHANGE_BATCH_SIZE} players.
+         *
+         * @param uuids the players' UUIDs
+         * @return the cooldowns of each player, players without cooldowns are mapped to an empty map, or empty if the query failed
+         */
+        public static Optional<Map<UUID, Map<CooldownType, Instant>>> load(Collection<UUID> uuids) {
+            awaitConversion();
+            final List<byte[]> keys = uuids.stream().map(UUIDUtil::toBytes).toList();
+            final Map<UUID, Map<CooldownType, Instant>> cooldowns = new HashMap<>();
+            for (UUID uuid : uuids)
+                cooldowns.put(uuid, new EnumMap<>(CooldownType.class));
+
+            try (
+                Connection con = DB.readPrimary() // Cooldowns may have been saved moments ago by the server the player left, replicas could still serve the old ones
+            ) {
+                DSLContext context = DB.getContext(con);
+                final boolean packed = isPacked();
+
+                for (int i = 0; i < keys.size(); i += CHANGE_BATCH_SIZE) {
+                    final List<byte[]> chunk = keys.subList(i, Math.min(i + CHANGE_BATCH_SIZE, keys.size()));
+                    if (packed) {
+                        for (Record2<byte[], byte[]> r : context.select(COOLDOWNS_PACKED.UUID, COOLDOWNS_PACKED.COOLDOWNS).from(COOLDOWNS_PACKED).where(COOLDOWNS_PACKED.UUID.in(chunk)).fetch())
+                            cooldowns.get(UUIDUtil.fromBytes(r.value1())).putAll(toInstants(QueryUtils.CooldownUtil.unpack(r.value2())));
+                        continue;
+                    }
+
+                    final Result<CooldownsRecord> cooldownsRecords = context
+                        .selectFrom(COOLDOWNS)
+                        .where(COOLDOWNS.UUID.in(chunk))
+                        .fetch();
+
+                    for (CooldownsRecord r : cooldownsRecords) {
+                        final CooldownType type = typeOf(r.getCooldownType());
+                        if (type != null) // Skip cooldown types which no longer exist
+                            cooldowns.get(UUIDUtil.fromBytes(r.getUuid())).put(type, QueryUtils.InstantUtil.fromDateTime(r.getCooldownTime()));
+                    }
+                }
+                return Optional.of(cooldowns);
+            } catch (SQLException | DataAccessException e) {
+                Logger.get().error("SQL Query threw an error!", e);
+            }
+            return Optional.empty();
+        }
+
         public static void save(OfflinePlayer player) {
             save(player.getUniqueId());
         }
 
         public static void save(UUID uuid) {
+            awaitConversion();
             try (
-                Connection con = DB.getConnection()
+                Connection con = DB.write()
             ) {
                 DSLContext context = DB.getContext(con);
 
+                if (isPacked()) {
+                    final Map<CooldownType, Long> cooldowns = new EnumMap<>(CooldownType.class);
+                    for (CooldownType cooldownType : CooldownType.values()) {
+                        if (Cooldowns.has(uuid, cooldownType))
+                            cooldowns.put(cooldownType, Cooldowns.getMillis(uuid, cooldownType));
+                    }
+
+                    savePacked(context, Map.of(uuid, cooldowns));
+                    return;
+                }
+
                 context.transaction(config -> {
                     DSLContext ctx = config.dsl();
 
@@ -362,5 +613,279 @@ public final class Queries {
                 Logger.get().error("SQL Query threw an error!", e);
             }
         }
+
+        /**
+         * Save changed cooldowns of any amount of players in a single transaction, using one multi-row upsert per {@value #CHANGE_BATCH_SIZE} changes and one delete per cooldown type and {@value #CHANGE_BATCH_SIZE} removals.
+         * With packed cooldowns the changes are merged into the stored rows, reading and writing {@value #CHANGE_BATCH_SIZE} players per statement.
+         *
+         * @param changes the changes
+         * @return whether the changes were saved
+         */
+        public static boolean save(Collection<CooldownChange> changes) {
+            if (changes.isEmpty())
+                return true;
+
+            awaitConversion();
+
+            try (
+                Connection con = DB.write()
+            ) {
+                DSLContext context = DB.getContext(con);
+
+                if (isPacked()) {
+                    savePackedChanges(context, changes);
+                    return true;
+                }
+
+                final List<CooldownChange> upserts = new ArrayList<>();
+                final List<CooldownChange> removals = new ArrayList<>();
+                for (CooldownChange change : changes)
+                    (change.isRemoval() ? removals : upserts).add(change);
+
+                transactionWithRetry(context, config -> {
+                    DSLContext ctx = config.dsl();
+
+                    final Map<CooldownType, List<byte[]>> removalsByType = removals.stream()
+                        .collect(Collectors.groupingBy(CooldownChange::type, () -> new EnumMap<>(CooldownType.class), Collectors.mapping(change -> UUIDUtil.toBytes(change.uuid()), Collectors.toList())));
+                    for (Map.Entry<CooldownType, List<byte[]>> entry : removalsByType.entrySet()) {
+                        final List<byte[]> uuids = entry.getValue();
+                        for (int i = 0; i < uuids.size(); i += CHANGE_BATCH_SIZE) {
+                            ctx.deleteFrom(COOLDOWNS)
+                                .where(COOLDOWNS.COOLDOWN_TYPE.eq(entry.getKey().name()))
+                                .and(COOLDOWNS.UUID.in(uuids.subList(i, Math.min(i + CHANGE_BATCH_SIZE, uuids.size()))))
+                                .execute();
+                        }
+                    }
+
+                    insertRows(ctx, upserts.stream().map(change -> Map.entry(change, change.expiry())).toList());
+                });
+                return true;
+            } catch (SQLException | DataAccessException e) {
+                Logger.get().error("SQL Query threw an error!", e);
+            }
+            return false;
+        }
+
+        /**
+         * Queue {@link #convertLayout()} on the write queue. Loads and saves of cooldowns wait for it to finish, so they never see a half converted database.
+         *
+         * @return a future completing with the amount of players whose cooldowns were converted, or -1 if the conversion failed
+         */
+        public static CompletableFuture<Integer> convertLayoutAsync() {
+            final CompletableFuture<Integer> future = DB.getWriteQueue().submit(Cooldown::convertLayout);
+            conversion = future;
+            return future;
+        }
+
+        private static void awaitConversion() {
+            try {
+                conversion.join();
+            } catch (CompletionException | CancellationException ignored) {
+                // The write queue shut down, loads and saves fail on their own if the database is gone
+            }
+        }
+
+        /**
+         * Move cooldowns stored in the layout which is not configured into the configured layout, in one transaction per {@value #CHANGE_BATCH_SIZE} players.
+         * Does nothing if the other layout is empty, so this is cheap to call on every startup. An interrupted conversion continues where it left off.
+         *
+         * @return the amount of players whose cooldowns were converted, or -1 if the conversion failed
+         */
+        public static int convertLayout() {
+            try (
+                Connection con = DB.write()
+            ) {
+                DSLContext context = DB.getContext(con);
+                final boolean packed = isPacked();
+
+                int converted = 0;
+                while (true) {
+                    final int chunk = context.transactionResult(config -> packed ? convertToPacked(config.dsl()) : convertToRows(config.dsl()));
+                    if (chunk == 0)
+                        return converted;
+
+                    converted += chunk;
+                }
+            } catch (SQLException | DataAccessException e) {
+                Logger.get().error("SQL Query threw an error!", e);
+            }
+            return -1;
+        }
+
+        /**
+         * Move the cooldowns of up to {@value #CHANGE_BATCH_SIZE} players from the row layout into the packed layout.
+         *
+         * @return the amount of players moved
+         */
+        private static int convertToPacked(DSLContext ctx) {
+            final List<byte[]> uuids = ctx
+                .selectDistinct(COOLDOWNS.UUID)
+                .from(COOLDOWNS)
+                .orderBy(COOLDOWNS.UUID.asc())
+                .limit(CHANGE_BATCH_SIZE)
+                .fetch(COOLDOWNS.UUID);
+            if (uuids.isEmpty())
+                return 0;
+
+            final Map<UUID, Map<CooldownType, Long>> cooldowns = new HashMap<>();
+            for (CooldownsRecord r : ctx.selectFrom(COOLDOWNS).where(COOLDOWNS.UUID.in(uuids)).fetch()) {
+                final CooldownType type = typeOf(r.getCooldownType());
+                if (type != null) // Skip cooldown types which no longer exist
+                    cooldowns.computeIfAbsent(UUIDUtil.fromBytes(r.getUuid()), k -> new EnumMap<>(CooldownType.class))
+                        .put(type, QueryUtils.InstantUtil.fromDateTime(r.getCooldownTime()).toEpochMilli());
+            }
+
+            savePacked(ctx, cooldowns);
+            ctx.deleteFrom(COOLDOWNS).where(COOLDOWNS.UUID.in(uuids)).execute();
+            return uuids.size();
+        }
+
+        /**
+         * Move the cooldowns of up to {@value #CHANGE_BATCH_SIZE} players from the packed layout into the row layout.
+         *
+         * @return the amount of players moved
+         */
+        private static int convertToRows(DSLContext ctx) {
+            final Result<Record2<byte[], byte[]>> chunk = ctx
+                .select(COOLDOWNS_PACKED.UUID, COOLDOWNS_PACKED.COOLDOWNS)
+                .from(COOLDOWNS_PACKED)
+                .orderBy(COOLDOWNS_PACKED.UUID.asc())
+                .limit(CHANGE_BATCH_SIZE)
+                .fetch();
+            if (chunk.isEmpty())
+                return 0;
+
+            final List<Map.Entry<CooldownChange, Long>> rows = new ArrayList<>();
+            for (Record2<byte[], byte[]> r : chunk) {
+                final UUID uuid = UUIDUtil.fromBytes(r.value1());
+                QueryUtils.CooldownUtil.unpack(r.value2()).forEach((type, expiry) -> rows.add(Map.entry(new CooldownChange(uuid, type, expiry), expiry)));
+            }
+
+            insertRows(ctx, rows);
+            ctx.deleteFrom(COOLDOWNS_PACKED).where(COOLDOWNS_PACKED.UUID.in(chunk.getValues(COOLDOWNS_PACKED.UUID))).execute();
+            return chunk.size();
+        }
+
+        /**
+         * Upsert cooldown rows using one multi-row statement per {@value #CHANGE_BATCH_SIZE} rows.
+         */
+        private static void insertRows(DSLContext ctx, List<Map.Entry<CooldownChange, Long>> rows) {
+            for (int i = 0; i < rows.size(); i += CHANGE_BATCH_SIZE) {
+                InsertValuesStep3<CooldownsRecord, byte[], String, LocalDateTime> insert = ctx
+                    .insertInto(COOLDOWNS, COOLDOWNS.UUID, COOLDOWNS.COOLDOWN_TYPE, COOLDOWNS.COOLDOWN_TIME);
+                for (Map.Entry<CooldownChange, Long> row : rows.subList(i, Math.min(i + CHANGE_BATCH_SIZE, rows.size())))
+                    insert = insert.values(UUIDUtil.toBytes(row.getKey().uuid()), row.getKey().type().name(), QueryUtils.InstantUtil.toDateTime(Instant.ofEpochMilli(row.getValue())));
+
+                insert
+                    .onDuplicateKeyUpdate()
+                    .set(COOLDOWNS.COOLDOWN_TIME, excluded(COOLDOWNS.COOLDOWN_TIME))
+                    .execute();
+            }
+        }
+
+        /**
+         * Merge changes into the packed rows of their players in a single transaction. Stored rows are read and locked {@value #CHANGE_BATCH_SIZE} players at a time, and expired cooldowns are dropped while rewriting them.
+         */
+        private static void savePackedChanges(DSLContext context, Collection<CooldownChange> changes) {
+            final Map<UUID, List<CooldownChange>> changesByPlayer = changes.stream()
+                .collect(Collectors.groupingBy(CooldownChange::uuid));
+            final List<UUID> uuids = new ArrayList<>(changesByPlayer.keySet());
+            final long now = System.currentTimeMillis();
+
+            transactionWithRetry(context, config -> {
+                DSLContext ctx = config.dsl();
+
+                for (int i = 0; i < uuids.size(); i += CHANGE_BATCH_SIZE) {
+                    final List<UUID> chunk = uuids.subList(i, Math.min(i + CHANGE_BATCH_SIZE, uuids.size()));
+                    final Map<UUID, Map<CooldownType, Long>> cooldowns = new HashMap<>();
+                    for (UUID uuid : chunk)
+                        cooldowns.put(uuid, new EnumMap<>(CooldownType.class));
+
+                    final SelectConditionStep<Record2<byte[], byte[]>> select = ctx
+                        .select(COOLDOWNS_PACKED.UUID, COOLDOWNS_PACKED.COOLDOWNS)
+                        .from(COOLDOWNS_PACKED)
+                        .where(COOLDOWNS_PACKED.UUID.in(chunk.stream().map(UUIDUtil::toBytes).toList()));
+                    final Result<Record2<byte[], byte[]>> stored = DB.getDB().isSingleWriter() ? select.fetch() : select.forUpdate().fetch(); // Single writers are already exclusive
+                    for (Record2<byte[], byte[]> r : stored)
+                        cooldowns.get(UUIDUtil.fromBytes(r.value1())).putAll(QueryUtils.CooldownUtil.unpack(r.value2()));
+
+                    for (UUID uuid : chunk) {
+                        final Map<CooldownType, Long> merged = cooldowns.get(uuid);
+                        for (CooldownChange change : changesByPlayer.get(uuid)) {
+                            if (change.isRemoval()) {
+                                merged.remove(change.type());
+                            } else {
+                                merged.put(change.type(), change.expiry());
+                            }
+                        }
+                        merged.values().removeIf(expiry -> expiry <= now);
+                    }
+
+                    savePacked(ctx, cooldowns);
+                }
+            });
+        }
+
+        /**
+         * Write the packed rows of players, deleting the rows of players without cooldowns, using one statement per {@value #CHANGE_BATCH_SIZE} players.
+         */
+        private static void savePacked(DSLContext ctx, Map<UUID, Map<CooldownType, Long>> cooldowns) {
+            final List<byte[]> deletes = new ArrayList<>();
+            final List<Map.Entry<UUID, Map<CooldownType, Long>>> upserts = new ArrayList<>();
+            for (Map.Entry<UUID, Map<CooldownType, Long>> entry : cooldowns.entrySet()) {
+                if (entry.getValue().isEmpty()) {
+                    deletes.add(UUIDUtil.toBytes(entry.getKey()));
+                } else {
+                    upserts.add(entry);
+                }
+            }
+
+            for (int i = 0; i < deletes.size(); i += CHANGE_BATCH_SIZE) {
+                ctx.deleteFrom(COOLDOWNS_PACKED)
+                    .where(COOLDOWNS_PACKED.UUID.in(deletes.subList(i, Math.min(i + CHANGE_BATCH_SIZE, deletes.size()))))
+                    .execute();
+            }
+
+            for (int i = 0; i < upserts.size(); i += CHANGE_BATCH_SIZE) {
+                InsertValuesStep2<CooldownsPackedRecord, byte[], byte[]> insert = ctx
+                    .insertInto(COOLDOWNS_PACKED, COOLDOWNS_PACKED.UUID, COOLDOWNS_PACKED.COOLDOWNS);
+                for (Map.Entry<UUID, Map<CooldownType, Long>> entry : upserts.subList(i, Math.min(i + CHANGE_BATCH_SIZE, upserts.size())))
+                    insert = insert.values(UUIDUtil.toBytes(entry.getKey()), QueryUtils.CooldownUtil.pack(entry.getValue()));
+
+                insert
+                    .onDuplicateKeyUpdate()
+                    .set(COOLDOWNS_PACKED.COOLDOWNS, excluded(COOLDOWNS_PACKED.COOLDOWNS))
+                    .execute();
+            }
+        }
+
+        /**
+         * Run a transaction, retrying it up to {@value #MAX_ATTEMPTS} times if the database rolled it back to resolve a deadlock between concurrent saves.
+         */
+        private static void transactionWithRetry(DSLContext context, TransactionalRunnable transaction) {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    context.transaction(transaction);
+                    return;
+                } catch (DataAccessException e) {
+                    if (attempt >= MAX_ATTEMPTS || e.sqlStateClass() != SQLStateClass.C40_TRANSACTION_ROLLBACK)
+                        throw e;
+                }
+            }
+        }
+
+        private static @Nullable CooldownType typeOf(String name) {
+            for (CooldownType type : CooldownType.values()) {
+                if (type.name().equals(name))
+                    return type;
+            }
+            return null;
+        }
+
+        private static Map<CooldownType, Instant> toInstants(Map<CooldownType, Long> cooldowns) {
+            final Map<CooldownType, Instant> instants = new EnumMap<>(CooldownType.class);
+            cooldowns.forEach((type, expiry) -> instants.put(type, Instant.ofEpochMilli(expiry)));
+            return instants;
+        }
     }
 }
@@ -1,5 +1,6 @@
 package io.github.exampleuser.exampleplugin.database;
 
+import io.github.exampleuser.exampleplugin.cooldown.CooldownType;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.AnimalTamer;
 import org.bukkit.entity.Entity;
@@ -9,6 +10,8 @@ import org.jetbrains.annotations.Nullable;
 import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * Utility class containing converters and other logic for queries.
@@ -156,4 +159,48 @@ public final class QueryUtils {
             return java.time.Instant.ofEpochSecond(epoch);
         }
     }
+
+    @SuppressWarnings("unused")
+    public static final class CooldownUtil {
+        private static final byte FORMAT = 1;
+        private static final int ENTRY_SIZE = Short.BYTES + Long.BYTES;
+
+        /**
+         * Pack cooldowns into an array of bytes, a format byte followed by a {@link CooldownType#getId() type id} short and epoch milliseconds long per cooldown.
+         *
+         * @param cooldowns the expiry times of each cooldown type in epoch milliseconds
+         * @return the byte array
+         */
+        public static byte[] pack(Map<CooldownType, Long> cooldowns) {
+            ByteBuffer bb = ByteBuffer.allocate(1 + cooldowns.size() * ENTRY_SIZE);
+            bb.put(FORMAT);
+            cooldowns.forEach((type, expiry) -> {
+                bb.putShort((short) type.getId());
+                bb.putLong(expiry);
+            });
+            return bb.array();
+        }
+
+        /**
+         * Unpack cooldowns from an array of bytes, skipping cooldown types which no longer exist.
+         *
+         * @param bytes the byte array
+         * @return the expiry times of each cooldown type in epoch milliseconds
+         * @throws IllegalArgumentException if the bytes are not packed cooldowns
+         */
+        public static Map<CooldownType, Long> unpack(byte[] bytes) {
+            if (bytes.length == 0 || bytes[0] != FORMAT || (bytes.length - 1) % ENTRY_SIZE != 0)
+                throw new IllegalArgumentException("Invalid packed cooldowns of %d bytes".formatted(bytes.length));
+
+            final Map<CooldownType, Long> cooldowns = new EnumMap<>(CooldownType.class);
+            ByteBuffer bb = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+            while (bb.hasRemaining()) {
+                final CooldownType type = CooldownType.fromId(bb.getShort());
+                final long expiry = bb.getLong();
+                if (type != null)
+                    cooldowns.put(type, expiry);
+            }
+            return cooldowns;
+        }
+    }
 }
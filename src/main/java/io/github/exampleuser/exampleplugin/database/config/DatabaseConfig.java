@@ -1,14 +1,13 @@
 package io.github.exampleuser.exampleplugin.database.config;
 
 import io.github.exampleuser.exampleplugin.database.handler.DatabaseType;
+import io.github.exampleuser.exampleplugin.database.pool.ReplicaRouting;
 import io.github.milkdrinkers.crate.Config;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 
 /**
  * The type Database config.
@@ -34,28 +33,48 @@ public class DatabaseConfig {
     private final long maxLifeTime;
     private final long keepAliveTime;
     private final long connectionTimeout;
+    private final boolean registerMbeans;
 
     // JDBC properties
     private final Map<String, Object> connectionProperties;
 
+    // Read replicas
+    private final List<ReplicaConfig> replicas;
+    private final ReplicaRouting replicaRouting;
+    private final long maxReplicaLag;
+    private final long replicaLagCheckInterval;
+
+    // Query metrics
+    private final long slowQueryThreshold;
+
+    // Storage layout
+    private final boolean packedCooldowns;
+
     /**
      * Instantiates a new Database config.
      *
-     * @param databaseType         the database type
-     * @param tablePrefix          the table prefix
-     * @param path                 the path
-     * @param host                 the host
-     * @param port                 the port
-     * @param database             the database
-     * @param username             the username
-     * @param password             the password
-     * @param repair               the repair
-     * @param maxPoolSize          the max pool size
-     * @param minIdle              the min idle
-     * @param maxLifeTime          the max life time
-     * @param keepAliveTime        the keep alive time
-     * @param connectionTimeout    the connection timeout
-     * @param connectionProperties the connection properties
+     * @param databaseType            the database type
+     * @param tablePrefix             the table prefix
+     * @param path                    the path
+     * @param host                    the host
+     * @param port                    the port
+     * @param database                the database
+     * @param username                the username
+     * @param password                the password
+     * @param repair                  the repair
+     * @param maxPoolSize             the max pool size
+     * @param minIdle                 the min idle
+     * @param maxLifeTime             the max life time
+     * @param keepAliveTime           the keep alive time
+     * @param connectionTimeout       the connection timeout
+     * @param registerMbeans          whether to expose the connection pools over JMX
+     * @param connectionProperties    the connection properties
+     * @param replicas                the read replicas
+     * @param replicaRouting          the read replica routing strategy
+     * @param maxReplicaLag           the max replica lag
+     * @param replicaLagCheckInterval the replica lag check interval
+     * @param slowQueryThreshold      the slow query threshold
+     * @param packedCooldowns         whether cooldowns are stored packed into one row per player
      */
     DatabaseConfig(
         DatabaseType databaseType,
@@ -72,7 +91,14 @@ public class DatabaseConfig {
         long maxLifeTime,
         long keepAliveTime,
         long connectionTimeout,
-        Map<String, Object> connectionProperties
+        boolean registerMbeans,
+        Map<String, Object> connectionProperties,
+        List<ReplicaConfig> replicas,
+        ReplicaRouting replicaRouting,
+        long maxReplicaLag,
+        long replicaLagCheckInterval,
+        long slowQueryThreshold,
+        boolean packedCooldowns
     ) {
         this.databaseType = databaseType;
         this.tablePrefix = tablePrefix;
@@ -88,7 +114,14 @@ public class DatabaseConfig {
         this.maxLifeTime = maxLifeTime;
         this.keepAliveTime = keepAliveTime;
         this.connectionTimeout = connectionTimeout;
+        this.registerMbeans = registerMbeans;
         this.connectionProperties = connectionProperties;
+        this.replicas = replicas;
+        this.replicaRouting = replicaRouting;
+        this.maxReplicaLag = maxReplicaLag;
+        this.replicaLagCheckInterval = replicaLagCheckInterval;
+        this.slowQueryThreshold = slowQueryThreshold;
+        this.packedCooldowns = packedCooldowns;
     }
 
     /**
@@ -227,6 +260,15 @@ public class DatabaseConfig {
         return connectionTimeout;
     }
 
+    /**
+     * Whether the connection pools are exposed over JMX. Pool names are fixed, so this fails if another plugin built from this template also exposes its pools.
+     *
+     * @return if pool MBeans are registered
+     */
+    public boolean isRegisterMbeans() {
+        return registerMbeans;
+    }
+
     /**
      * Gets connection properties.
      *
@@ -236,6 +278,63 @@ public class DatabaseConfig {
         return getDatabaseType().formatJdbcConnectionProperties(connectionProperties).isEmpty() ? "" : getDatabaseType().getJdbcPropertySeparator() + getDatabaseType().formatJdbcConnectionProperties(connectionProperties);
     }
 
+    /**
+     * Gets read replicas. Always empty for embedded databases.
+     *
+     * @return the read replicas
+     */
+    public List<ReplicaConfig> getReplicas() {
+        if (!getDatabaseType().equals(DatabaseType.MYSQL) && !getDatabaseType().equals(DatabaseType.MARIADB))
+            return Collections.emptyList();
+
+        return Collections.unmodifiableList(replicas);
+    }
+
+    /**
+     * Gets read replica routing strategy.
+     *
+     * @return the read replica routing strategy
+     */
+    public ReplicaRouting getReplicaRouting() {
+        return replicaRouting;
+    }
+
+    /**
+     * Gets the max replica lag in milliseconds, replicas lagging further behind the primary are not used.
+     *
+     * @return the max replica lag
+     */
+    public long getMaxReplicaLag() {
+        return maxReplicaLag;
+    }
+
+    /**
+     * Gets the replica lag check interval in milliseconds.
+     *
+     * @return the replica lag check interval
+     */
+    public long getReplicaLagCheckInterval() {
+        return replicaLagCheckInterval;
+    }
+
+    /**
+     * Gets the slow query threshold in milliseconds, 0 if slow query logging is disabled.
+     *
+     * @return the slow query threshold
+     */
+    public long getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    /**
+     * Whether cooldowns are stored packed into one row per player instead of one row per cooldown.
+     *
+     * @return if cooldowns are packed
+     */
+    public boolean isPackedCooldowns() {
+        return packedCooldowns;
+    }
+
     /**
      * Gets database config from file.
      *
@@ -259,9 +358,24 @@ public class DatabaseConfig {
         Long maxLifeTime = cfg.getLong("database.advanced.connection-pool.max-lifetime");
         Long keepAliveTime = cfg.getLong("database.advanced.connection-pool.keepalive-time");
         Long connectionTimeout = cfg.getLong("database.advanced.connection-pool.connection-timeout");
+        boolean registerMbeans = cfg.getOrDefault("database.advanced.connection-pool.register-mbeans", false);
 
         Map<String, Object> connectionProperties = cfg.getMapParameterized("database.advanced.connection-properties");
 
+        List<ReplicaConfig> replicas = new ArrayList<>();
+        if (cfg.getOrDefault("database.advanced.read-replicas.enabled", false)) {
+            for (String address : cfg.getStringList("database.advanced.read-replicas.addresses")) {
+                final ReplicaConfig replica = ReplicaConfig.of(address, port);
+                if (replica != null)
+                    replicas.add(replica);
+            }
+        }
+        String replicaRouting = cfg.getString("database.advanced.read-replicas.routing");
+        Long maxReplicaLag = cfg.getLong("database.advanced.read-replicas.max-lag");
+        Long replicaLagCheckInterval = cfg.getLong("database.advanced.read-replicas.lag-check-interval");
+        Long slowQueryThreshold = cfg.getLong("database.advanced.slow-query-threshold");
+        boolean packedCooldowns = cfg.getOrDefault("database.advanced.packed-cooldowns", false);
+
         return builder()
             .withDatabaseType(databaseType)
             .withTablePrefix(tablePrefix)
@@ -277,7 +391,14 @@ public class DatabaseConfig {
             .withMaxLifeTime(maxLifeTime)
             .withKeepAliveTime(keepAliveTime)
             .withConnectionTimeout(connectionTimeout)
+            .withRegisterMbeans(registerMbeans)
             .withConnectionProperties(connectionProperties)
+            .withReplicas(replicas)
+            .withReplicaRouting(ReplicaRouting.fromString(replicaRouting))
+            .withMaxReplicaLag(maxReplicaLag)
+            .withReplicaLagCheckInterval(replicaLagCheckInterval)
+            .withSlowQueryThreshold(slowQueryThreshold)
+            .withPackedCooldowns(packedCooldowns)
             .build();
     }
 
@@ -313,9 +434,17 @@ public class DatabaseConfig {
         private @Nullable Long maxLifeTime;
         private @Nullable Long keepAliveTime;
         private @Nullable Long connectionTimeout;
+        private @Nullable Boolean registerMbeans;
 
         private @Nullable Map<String, Object> connectionProperties;
 
+        private @Nullable List<ReplicaConfig> replicas;
+        private @Nullable ReplicaRouting replicaRouting;
+        private @Nullable Long maxReplicaLag;
+        private @Nullable Long replicaLagCheckInterval;
+        private @Nullable Long slowQueryThreshold;
+        private @Nullable Boolean packedCooldowns;
+
         /**
          * With database type database config builder.
          *
@@ -470,6 +599,17 @@ public class DatabaseConfig {
             return this;
         }
 
+        /**
+         * With register MBeans database config builder.
+         *
+         * @param registerMbeans whether to expose the connection pools over JMX
+         * @return the database config builder
+         */
+        public Builder withRegisterMbeans(Boolean registerMbeans) {
+            this.registerMbeans = registerMbeans;
+            return this;
+        }
+
         /**
          * With connection properties database config builder.
          *
@@ -481,6 +621,72 @@ public class DatabaseConfig {
             return this;
         }
 
+        /**
+         * With read replicas database config builder.
+         *
+         * @param replicas the read replicas
+         * @return the database config builder
+         */
+        public Builder withReplicas(List<ReplicaConfig> replicas) {
+            this.replicas = replicas;
+            return this;
+        }
+
+        /**
+         * With read replica routing database config builder.
+         *
+         * @param replicaRouting the read replica routing strategy
+         * @return the database config builder
+         */
+        public Builder withReplicaRouting(ReplicaRouting replicaRouting) {
+            this.replicaRouting = replicaRouting;
+            return this;
+        }
+
+        /**
+         * With max replica lag database config builder.
+         *
+         * @param maxReplicaLag the max replica lag in milliseconds
+         * @return the database config builder
+         */
+        public Builder withMaxReplicaLag(Long maxReplicaLag) {
+            this.maxReplicaLag = maxReplicaLag;
+            return this;
+        }
+
+        /**
+         * With replica lag check interval database config builder.
+         *
+         * @param replicaLagCheckInterval the replica lag check interval in milliseconds
+         * @return the database config builder
+         */
+        public Builder withReplicaLagCheckInterval(Long replicaLagCheckInterval) {
+            this.replicaLagCheckInterval = replicaLagCheckInterval;
+            return this;
+        }
+
+        /**
+         * With slow query threshold database config builder.
+         *
+         * @param slowQueryThreshold the slow query threshold in milliseconds, 0 to disable slow query logging
+         * @return the database config builder
+         */
+        public Builder withSlowQueryThreshold(Long slowQueryThreshold) {
+            this.slowQueryThreshold = slowQueryThreshold;
+            return this;
+        }
+
+        /**
+         * With packed cooldowns database config builder.
+         *
+         * @param packedCooldowns whether cooldowns are stored packed into one row per player
+         * @return the database config builder
+         */
+        public Builder withPackedCooldowns(Boolean packedCooldowns) {
+            this.packedCooldowns = packedCooldowns;
+            return this;
+        }
+
         /**
          * Build database config.
          *
@@ -526,6 +732,9 @@ public class DatabaseConfig {
             if (connectionTimeout == null)
                 connectionTimeout = 20_000L;
 
+            if (registerMbeans == null)
+                registerMbeans = false;
+
             if (connectionProperties == null) {
                 connectionProperties = new HashMap<>();
 
@@ -544,7 +753,25 @@ public class DatabaseConfig {
                 }
             }
 
-            return new DatabaseConfig(databaseType, tablePrefix, path, host, port, database, username, password, repair, maxPoolSize, minIdle, maxLifeTime, keepAliveTime, connectionTimeout, connectionProperties);
+            if (replicas == null)
+                replicas = new ArrayList<>();
+
+            if (replicaRouting == null)
+                replicaRouting = ReplicaRouting.ROUND_ROBIN;
+
+            if (maxReplicaLag == null || maxReplicaLag <= 0)
+                maxReplicaLag = 5_000L;
+
+            if (replicaLagCheckInterval == null || replicaLagCheckInterval <= 0)
+                replicaLagCheckInterval = 5_000L;
+
+            if (slowQueryThreshold == null || slowQueryThreshold < 0)
+                slowQueryThreshold = 250L;
+
+            if (packedCooldowns == null)
+                packedCooldowns = false;
+
+            return new DatabaseConfig(databaseType, tablePrefix, path, host, port, database, username, password, repair, maxPoolSize, minIdle, maxLifeTime, keepAliveTime, connectionTimeout, registerMbeans, connectionProperties, replicas, replicaRouting, maxReplicaLag, replicaLagCheckInterval, slowQueryThreshold, packedCooldowns);
         }
     }
 }
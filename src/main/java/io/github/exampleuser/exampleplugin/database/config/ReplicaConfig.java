@@ -0,0 +1,44 @@
+package io.github.exampleuser.exampleplugin.database.config;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds the address of a single read replica. Database name and credentials are shared with the primary.
+ *
+ * @param host the host
+ * @param port the port
+ */
+public record ReplicaConfig(@NotNull String host, int port) {
+    /**
+     * Parse a {@code host:port} string into a replica config.
+     *
+     * @param address     the address to parse
+     * @param defaultPort the port used if the address has none
+     * @return the replica config or null if the address is empty
+     */
+    public static @Nullable ReplicaConfig of(@Nullable String address, int defaultPort) {
+        if (address == null || address.isBlank())
+            return null;
+
+        final int lastDelimiterIndex = address.lastIndexOf(":");
+        if (lastDelimiterIndex == -1) // No delimiter found
+            return new ReplicaConfig(address, defaultPort);
+
+        final String host = address.substring(0, lastDelimiterIndex);
+        try {
+            final int port = Integer.parseInt(address.substring(lastDelimiterIndex + 1));
+            if (port < 1 || port > 65535)
+                return new ReplicaConfig(host, defaultPort);
+
+            return new ReplicaConfig(host, port);
+        } catch (NumberFormatException e) {
+            return new ReplicaConfig(host, defaultPort);
+        }
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return host() + ":" + port();
+    }
+}
@@ -9,16 +9,25 @@ import io.github.exampleuser.exampleplugin.database.config.DatabaseConfig;
 import io.github.exampleuser.exampleplugin.database.exception.DatabaseInitializationException;
 import io.github.exampleuser.exampleplugin.database.exception.DatabaseMigrationException;
 import io.github.exampleuser.exampleplugin.database.jooq.JooqContext;
+import io.github.exampleuser.exampleplugin.database.metrics.PoolMetricsRegistry;
+import io.github.exampleuser.exampleplugin.database.metrics.QueryMetrics;
 import io.github.exampleuser.exampleplugin.database.migration.MigrationHandler;
 import io.github.exampleuser.exampleplugin.database.pool.ConnectionPoolFactory;
+import io.github.exampleuser.exampleplugin.database.pool.ReplicaRouter;
+import io.github.exampleuser.exampleplugin.database.pool.WriteQueue;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.slf4j.Logger;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Class that handles HikariCP connection pool, jOOQ and Flyway migrations.
@@ -27,6 +36,12 @@ public class DatabaseHandler extends AbstractService implements Reloadable {
     private final Logger logger;
     private JooqContext jooqContext;
     private HikariDataSource connectionPool;
+    private @Nullable HikariDataSource readerPool;
+    private @Nullable ReplicaRouter replicaRouter;
+    private WriteQueue writeQueue;
+    private @Nullable CompletableFuture<Void> migration;
+    private final PoolMetricsRegistry poolMetrics = new PoolMetricsRegistry();
+    private QueryMetrics queryMetrics;
     private DatabaseConfig config;
     private final boolean migrateOnStartup;
 
@@ -62,21 +77,33 @@ public class DatabaseHandler extends AbstractService implements Reloadable {
             config = DatabaseConfig.fromConfig(plugin.getConfigHandler().getDatabaseConfig());
 
         try {
-            doStartup(); // Start connection pool
+            doStartup(); // Start connection pool, migrations continue in the background while other handlers load
         } catch (DatabaseInitializationException e) {
             logger.error("[DB] Database initialization error: {}", e.getMessage());
         } finally {
-            if (!isReady()) {
+            if (!isStarted()) {
                 logger.warn("[DB] Error while initializing database. Functionality will be limited.");
             }
         }
     }
 
+    @Override
+    public Set<Class<? extends Reloadable>> getDependencies(ExamplePlugin plugin) {
+        return Set.of(ConfigHandler.class);
+    }
+
+    @Override
+    public boolean isConcurrentLoad() {
+        return true; // Opening connections and migrating is blocking I/O, keep it off the main thread
+    }
+
     /**
      * On plugin enable.
      */
     @Override
     public void onEnable(ExamplePlugin plugin) {
+        if (isStarted() && !awaitMigration())
+            logger.warn("[DB] Error while initializing database. Functionality will be limited.");
     }
 
     /**
@@ -97,7 +124,28 @@ public class DatabaseHandler extends AbstractService implements Reloadable {
      * @return the boolean
      */
     public boolean isReady() {
-        return isStarted();
+        final CompletableFuture<Void> pending = migration;
+        return isStarted() && (pending == null || (pending.isDone() && !pending.isCompletedExceptionally()));
+    }
+
+    /**
+     * Blocks until the startup migration has finished, shutting down the database if it failed.
+     * Anything using the database during plugin load must call this first.
+     *
+     * @return whether the database is ready
+     */
+    public synchronized boolean awaitMigration() {
+        final CompletableFuture<Void> pending = migration;
+        if (pending != null) {
+            try {
+                pending.join();
+            } catch (CompletionException | CancellationException e) {
+                logger.error("[DB] Database initialization error: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                doShutdown();
+            }
+        }
+
+        return isReady();
     }
 
     /**
@@ -127,6 +175,57 @@ public class DatabaseHandler extends AbstractService implements Reloadable {
         return connectionPool;
     }
 
+    /**
+     * Gets the reader connection pool of single writer databases.
+     *
+     * @return the reader connection pool or null if the database supports concurrent writers
+     */
+    public @Nullable HikariDataSource getReaderPool() {
+        return readerPool;
+    }
+
+    /**
+     * Gets the write queue. Only writes submitted to it are serialized, writes made through {@link #getConnection()} still wait on the writer connection through the pool.
+     *
+     * @return the write queue
+     */
+    public WriteQueue getWriteQueue() {
+        if (writeQueue == null)
+            throw new IllegalStateException("Write queue is still null but was accessed in getWriteQueue!");
+
+        return writeQueue;
+    }
+
+    /**
+     * Gets the read replica router.
+     *
+     * @return the read replica router or null if no read replicas are configured
+     */
+    public @Nullable ReplicaRouter getReplicaRouter() {
+        return replicaRouter;
+    }
+
+    /**
+     * Gets the metrics of all connection pools, including read replicas.
+     *
+     * @return the pool metrics registry
+     */
+    public PoolMetricsRegistry getPoolMetrics() {
+        return poolMetrics;
+    }
+
+    /**
+     * Gets the latency statistics of all executed statements.
+     *
+     * @return the query metrics
+     */
+    public QueryMetrics getQueryMetrics() {
+        if (queryMetrics == null)
+            throw new IllegalStateException("Query metrics are still null but were accessed in getQueryMetrics!");
+
+        return queryMetrics;
+    }
+
     /**
      * Gets database config.
      *
@@ -157,6 +256,43 @@ public class DatabaseHandler extends AbstractService implements Reloadable {
         return connection;
     }
 
+    /**
+     * Gets a connection for read-only queries. Uses a read replica if any is healthy, or the reader pool of single writer databases, otherwise the primary connection pool.
+     * <p>
+     * Replicas may lag slightly behind the primary, don't use this for reads which must observe a write made moments ago.
+     *
+     * @return the connection
+     * @throws SQLException the sql exception
+     */
+    @NotNull
+    public Connection getReadConnection() throws SQLException {
+        if (replicaRouter != null) {
+            final Connection connection = replicaRouter.getConnection();
+            if (connection != null)
+                return connection;
+        }
+
+        if (readerPool != null)
+            return readerPool.getConnection();
+
+        return getConnection();
+    }
+
+    /**
+     * Gets a connection for read-only queries which must observe every committed write, such as loading data saved moments ago by another server.
+     * Never uses a read replica, but uses the reader pool of single writer databases as it reads the same database as the writer.
+     *
+     * @return the connection
+     * @throws SQLException the sql exception
+     */
+    @NotNull
+    public Connection getPrimaryReadConnection() throws SQLException {
+        if (readerPool != null)
+            return readerPool.getConnection();
+
+        return getConnection();
+    }
+
     /**
      * Creates a connection pool using HikariCP and setups jOOQ DSLContext.
      * Should always be followed by running Flyway migrations with {@link #migrate()}.
@@ -173,7 +309,8 @@ public class DatabaseHandler extends AbstractService implements Reloadable {
         // Initialize connection pool
         connectionPool = ConnectionPoolFactory.create(
             config,
-            logger
+            logger,
+            poolMetrics
         );
 
         // Check if using invalid database type (Note, these cases throw in the previous method)
@@ -190,19 +327,58 @@ public class DatabaseHandler extends AbstractService implements Reloadable {
             throw new DatabaseInitializationException(t.getMessage());
         }
 
+        // Initialize reader pool, the primary pool only holds the writer connection for single writer databases
+        if (config.getDatabaseType().isSingleWriter()) {
+            try {
+                readerPool = ConnectionPoolFactory.createReader(
+                    config,
+                    logger,
+                    poolMetrics
+                );
+            } catch (DatabaseInitializationException e) {
+                logger.warn("[DB] {} All reads will use the writer connection.", e.getMessage());
+            }
+        }
+
+        // Initialize write queue
+        writeQueue = new WriteQueue(logger, config.getDatabaseType().isSingleWriter() ? 1 : connectionPool.getMaximumPoolSize());
+
+        // Initialize read replica pools
+        if (!config.getReplicas().isEmpty()) {
+            try {
+                replicaRouter = ReplicaRouter.create(
+                    config,
+                    logger,
+                    poolMetrics
+                );
+                logger.info("[DB] Routing reads across {}/{} healthy read replicas.", replicaRouter.getHealthyCount(), replicaRouter.getCount());
+            } catch (DatabaseInitializationException e) {
+                logger.warn("[DB] {} All reads will use the primary database.", e.getMessage()); // Replicas are an optimization, the primary alone is fully functional
+            }
+        }
+
         // Disable JOOQ nonsense
         System.setProperty("org.jooq.no-logo", "true");
         System.setProperty("org.jooq.no-tips", "true");
 
         // Setup JOOQ
+        queryMetrics = new QueryMetrics(logger, config.getSlowQueryThreshold());
         jooqContext = new JooqContext(
             config.getDatabaseType().getSQLDialect(),
-            config.getTablePrefix()
+            config.getTablePrefix(),
+            queryMetrics
         );
 
-        // Migrate
-        if (migrateOnStartup)
-            migrate();
+        // Migrate in the background, only code using the database has to wait, see awaitMigration
+        if (migrateOnStartup) {
+            migration = CompletableFuture.runAsync(() -> {
+                try {
+                    migrate();
+                } catch (DatabaseInitializationException e) {
+                    throw new CompletionException(e);
+                }
+            }, runnable -> Thread.ofPlatform().name("db-migration").daemon().start(runnable));
+        }
     }
 
     /**
@@ -223,7 +399,24 @@ public class DatabaseHandler extends AbstractService implements Reloadable {
             return;
         }
 
+        if (migration != null) {
+            migration.exceptionally(throwable -> null).join(); // Never close the pool under a running migration
+            migration = null;
+        }
+
         jooqContext = null;
+        if (writeQueue != null) {
+            writeQueue.close(); // Let queued writes finish before closing the pools
+            writeQueue = null;
+        }
+        if (readerPool != null) {
+            readerPool.close();
+            readerPool = null;
+        }
+        if (replicaRouter != null) {
+            replicaRouter.close();
+            replicaRouter = null;
+        }
         connectionPool.close();
         connectionPool = null;
 
@@ -6,9 +6,12 @@ import org.jooq.*;
 import org.jooq.conf.*;
 import org.jooq.exception.DataAccessException;
 import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultExecuteListenerProvider;
 import org.jooq.tools.JooqLogger;
 
 import java.sql.Connection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -20,9 +23,11 @@ public final class JooqContext {
     }
 
     private static final Pattern MATCH_ALL_EXCEPT_INFORMATION_SCHEMA = Pattern.compile("^(?!INFORMATION_SCHEMA)(.*?)$");
-    private static final Pattern MATCH_ALL = Pattern.compile("^(.*?)$");
+    private static final Pattern MATCH_ALL_EXCEPT_EXCLUDED = Pattern.compile("^(?!excluded$)(.*?)$"); // The upsert pseudo table referenced by DSL#excluded(Field) must keep its name
     private final SQLDialect dialect;
     private final String replacement; //
+    private final ExecuteListenerProvider[] executeListenerProviders;
+    private final Map<QueryTemplate, String> renderedTemplates = new ConcurrentHashMap<>();
 
     /**
      * Instantiates a new Jooq context.
@@ -33,6 +38,7 @@ public final class JooqContext {
     public JooqContext(DatabaseConfig databaseConfig) {
         this.dialect = databaseConfig.getDatabaseType().getSQLDialect();
         this.replacement = "%s$0".formatted(databaseConfig.getTablePrefix());
+        this.executeListenerProviders = new ExecuteListenerProvider[0];
     }
 
     /**
@@ -42,8 +48,20 @@ public final class JooqContext {
      * @param tablePrefix the prefix to add in front of tables
      */
     public JooqContext(SQLDialect dialect, String tablePrefix) {
+        this(dialect, tablePrefix, new ExecuteListener[0]);
+    }
+
+    /**
+     * Instantiates a new Jooq context.
+     *
+     * @param dialect     the getSQLDialect
+     * @param tablePrefix the prefix to add in front of tables
+     * @param listeners   the listeners notified of every executed statement, i.e. for metrics
+     */
+    public JooqContext(SQLDialect dialect, String tablePrefix, ExecuteListener... listeners) {
         this.dialect = dialect;
         this.replacement = "%s$0".formatted(tablePrefix);
+        this.executeListenerProviders = DefaultExecuteListenerProvider.providers(listeners);
     }
 
     /**
@@ -67,6 +85,19 @@ public final class JooqContext {
         return createWith(new SimpleConnectionProvider(connection));
     }
 
+    /**
+     * Render a query template to SQL, rendering happens once per template and the result is reused on every later call.
+     *
+     * @param template the query template
+     * @return the sql with bind placeholders
+     */
+    public String render(QueryTemplate template) {
+        return renderedTemplates.computeIfAbsent(template, unused -> {
+            final DSLContext context = createContext(null);
+            return context.render(template.build(context));
+        });
+    }
+
     /**
      * Applies default configuration
      *
@@ -78,7 +109,7 @@ public final class JooqContext {
             .set(connectionProvider)
             .set(dialect)
             .set(createSettings())
-            .set(new ExecuteListenerProvider[0])
+            .set(executeListenerProviders)
             .dsl();
     }
 
@@ -95,7 +126,7 @@ public final class JooqContext {
                 .withSchemata(new MappedSchema()
                     .withInputExpression(MATCH_ALL_EXCEPT_INFORMATION_SCHEMA)
                     .withTables(new MappedTable()
-                        .withInputExpression(MATCH_ALL)
+                        .withInputExpression(MATCH_ALL_EXCEPT_EXCLUDED)
                         .withOutput(replacement)
                     )
                 )
@@ -0,0 +1,42 @@
+package io.github.exampleuser.exampleplugin.database.jooq;
+
+import org.jooq.DSLContext;
+import org.jooq.Query;
+
+import java.util.function.Function;
+
+/**
+ * A query built and rendered once per {@link JooqContext}, with bind placeholders in place of its values.
+ * <p>
+ * Hot queries use templates to skip building and rendering the jOOQ query tree on every call. As the rendered SQL is identical on every execution the driver, or the database server, can reuse its prepared statement.
+ * Placeholders are created with {@link org.jooq.impl.DSL#param(String, Class)} and values are bound in the order they appear in the query.
+ *
+ * @see JooqContext#render(QueryTemplate)
+ */
+public final class QueryTemplate {
+    private final Function<DSLContext, ? extends Query> factory;
+
+    private QueryTemplate(Function<DSLContext, ? extends Query> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Create a query template.
+     *
+     * @param factory builds the query, called once for every jOOQ context the template is rendered by
+     * @return the query template
+     */
+    public static QueryTemplate of(Function<DSLContext, ? extends Query> factory) {
+        return new QueryTemplate(factory);
+    }
+
+    /**
+     * Build the query.
+     *
+     * @param context the dsl context
+     * @return the query
+     */
+    Query build(DSLContext context) {
+        return factory.apply(context);
+    }
+}
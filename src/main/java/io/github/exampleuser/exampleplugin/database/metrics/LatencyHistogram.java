@@ -0,0 +1,158 @@
+package io.github.exampleuser.exampleplugin.database.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free, fixed size latency histogram with microsecond resolution.
+ * <p>
+ * Values are sorted into log-linear buckets, every power of two is split into {@value #SUB_BUCKETS} linear sub-buckets.
+ * This bounds the relative error of reported percentiles to 12.5% while using constant memory, regardless of how many values are recorded.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 36; // 2^36 µs is roughly 19 hours, larger values are clamped
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Record a latency.
+     *
+     * @param duration the duration
+     * @param unit     the unit of the duration
+     */
+    public void record(long duration, TimeUnit unit) {
+        recordMicros(unit.toMicros(duration));
+    }
+
+    /**
+     * Record a latency in microseconds.
+     *
+     * @param micros the duration in microseconds
+     */
+    public void recordMicros(long micros) {
+        final long value = Math.max(0, micros);
+        buckets.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Get the amount of recorded values.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Get the approximate value at the given percentile, in microseconds.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value or 0 if nothing was recorded
+     */
+    public long getPercentile(double percentile) {
+        long total = 0;
+        final long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+
+        if (total == 0)
+            return 0;
+
+        final long rank = Math.max(1, (long) Math.ceil(total * (Math.clamp(percentile, 0D, 100D) / 100D)));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank)
+                return Math.min(upperBound(i), max.get());
+        }
+        return max.get();
+    }
+
+    /**
+     * Take a snapshot of the current state of this histogram.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        final long count = getCount();
+        return new Snapshot(
+            count,
+            count == 0 ? 0 : sum.sum() / count,
+            getPercentile(50),
+            getPercentile(95),
+            getPercentile(99),
+            max.get()
+        );
+    }
+
+    /**
+     * Clear all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++)
+            buckets.set(i, 0);
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    private static int index(long value) {
+        if (value < SUB_BUCKETS)
+            return (int) value;
+
+        final int exponent = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_EXPONENT);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        final int mantissa = (int) Math.min(value >>> shift, (SUB_BUCKETS << 1) - 1); // In range [SUB_BUCKETS, 2 * SUB_BUCKETS)
+        return shift * SUB_BUCKETS + mantissa;
+    }
+
+    private static long upperBound(int index) {
+        if (index < SUB_BUCKETS)
+            return index;
+
+        final int shift = index / SUB_BUCKETS - 1;
+        final long mantissa = index % SUB_BUCKETS + SUB_BUCKETS;
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * A point-in-time view of a histogram, all values are in microseconds.
+     *
+     * @param count the amount of recorded values
+     * @param mean  the mean
+     * @param p50   the median
+     * @param p95   the 95th percentile
+     * @param p99   the 99th percentile
+     * @param max   the largest recorded value
+     */
+    public record Snapshot(long count, long mean, long p50, long p95, long p99, long max) {
+        /**
+         * Format a microsecond value for display, i.e. {@code 850µs} or {@code 12.4ms}.
+         *
+         * @param micros the value in microseconds
+         * @return the formatted value
+         */
+        public static String format(long micros) {
+            if (micros < 1_000)
+                return micros + "µs";
+
+            if (micros < 1_000_000)
+                return "%.1fms".formatted(micros / 1_000D);
+
+            return "%.2fs".formatted(micros / 1_000_000D);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.exampleuser.exampleplugin.database.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects metrics for a single HikariCP connection pool. Created by HikariCP through {@link PoolMetricsRegistry}.
+ */
+public final class PoolMetrics implements IMetricsTracker {
+    private final PoolMetricsRegistry registry;
+    private final String poolName;
+    private final PoolStats poolStats;
+    private final LatencyHistogram acquireLatency = new LatencyHistogram();
+    private final LatencyHistogram usageTime = new LatencyHistogram();
+    private final LongAdder connectionTimeouts = new LongAdder();
+    private final LongAdder connectionsCreated = new LongAdder();
+
+    PoolMetrics(PoolMetricsRegistry registry, String poolName, PoolStats poolStats) {
+        this.registry = registry;
+        this.poolName = poolName;
+        this.poolStats = poolStats;
+    }
+
+    @Override
+    public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+        connectionsCreated.increment();
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        acquireLatency.record(elapsedAcquiredNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+        usageTime.record(elapsedBorrowedMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        connectionTimeouts.increment();
+    }
+
+    @Override
+    public void close() {
+        registry.remove(this);
+    }
+
+    /**
+     * Gets the name of the pool.
+     *
+     * @return the pool name
+     */
+    public String getPoolName() {
+        return poolName;
+    }
+
+    /**
+     * Gets the connection acquisition latency histogram.
+     *
+     * @return the histogram
+     */
+    public LatencyHistogram getAcquireLatency() {
+        return acquireLatency;
+    }
+
+    /**
+     * Gets the amount of times a thread gave up waiting for a connection.
+     *
+     * @return the amount of connection timeouts
+     */
+    public long getConnectionTimeouts() {
+        return connectionTimeouts.sum();
+    }
+
+    /**
+     * Take a snapshot of the current state of this pool.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(
+            poolName,
+            poolStats.getActiveConnections(),
+            poolStats.getIdleConnections(),
+            poolStats.getPendingThreads(),
+            poolStats.getTotalConnections(),
+            poolStats.getMaxConnections(),
+            acquireLatency.snapshot(),
+            usageTime.snapshot(),
+            connectionTimeouts.sum(),
+            connectionsCreated.sum()
+        );
+    }
+
+    /**
+     * A point-in-time view of a connection pool.
+     *
+     * @param poolName           the pool name
+     * @param active             the amount of connections in use
+     * @param idle               the amount of idle connections
+     * @param pending            the amount of threads waiting for a connection
+     * @param total              the total amount of connections
+     * @param max                the maximum pool size
+     * @param acquireLatency     the time spent waiting for a connection
+     * @param usageTime          the time connections were held before being returned
+     * @param connectionTimeouts the amount of connection timeouts
+     * @param connectionsCreated the amount of physical connections opened
+     */
+    public record Snapshot(
+        String poolName,
+        int active,
+        int idle,
+        int pending,
+        int total,
+        int max,
+        LatencyHistogram.Snapshot acquireLatency,
+        LatencyHistogram.Snapshot usageTime,
+        long connectionTimeouts,
+        long connectionsCreated
+    ) {
+    }
+}
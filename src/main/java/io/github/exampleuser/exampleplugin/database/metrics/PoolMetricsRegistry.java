@@ -0,0 +1,66 @@
+package io.github.exampleuser.exampleplugin.database.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the metrics of every connection pool it is registered to, keyed by pool name.
+ */
+public final class PoolMetricsRegistry implements MetricsTrackerFactory {
+    private final Map<String, PoolMetrics> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        final PoolMetrics metrics = new PoolMetrics(this, poolName, poolStats);
+        pools.put(poolName, metrics);
+        return metrics;
+    }
+
+    /**
+     * Stop tracking a pool, called once the pool is closed.
+     *
+     * @param metrics the pool metrics
+     */
+    void remove(PoolMetrics metrics) {
+        pools.remove(metrics.getPoolName(), metrics);
+    }
+
+    /**
+     * Get the metrics of a pool.
+     *
+     * @param poolName the pool name
+     * @return the pool metrics or null if no such pool is open
+     */
+    public @Nullable PoolMetrics get(String poolName) {
+        return pools.get(poolName);
+    }
+
+    /**
+     * Get the metrics of all open pools, sorted by pool name.
+     *
+     * @return the pool metrics
+     */
+    public List<PoolMetrics> getAll() {
+        return pools.values().stream()
+            .sorted(Comparator.comparing(PoolMetrics::getPoolName))
+            .toList();
+    }
+
+    /**
+     * Take a snapshot of all open pools, sorted by pool name.
+     *
+     * @return the pool snapshots
+     */
+    public List<PoolMetrics.Snapshot> snapshot() {
+        return getAll().stream()
+            .map(PoolMetrics::snapshot)
+            .toList();
+    }
+}
@@ -0,0 +1,216 @@
+package io.github.exampleuser.exampleplugin.database.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.slf4j.Logger;
+
+import java.io.Serial;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * A jOOQ {@link ExecuteListener} recording latency and row counts for every statement, grouped by statement shape.
+ * <p>
+ * The shape of a statement is its rendered SQL with bind values as placeholders, where repeated placeholder lists (i.e. multi-row inserts or {@code IN} lists) are collapsed.
+ * At most {@value #MAX_SHAPES} shapes are tracked, any further shapes share a single overflow entry, keeping memory usage constant.
+ * Statements taking longer than the slow query threshold are logged along with the method that issued them.
+ */
+public final class QueryMetrics implements ExecuteListener {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAX_SHAPES = 200;
+    private static final int MAX_SQL_LENGTH = 512;
+    private static final String OVERFLOW_SHAPE = "<other>";
+    private static final Object STATE_KEY = new Object();
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\((?:\\?, )+\\?\\)");
+    private static final Pattern REPEATED_TUPLES = Pattern.compile("(\\((?:\\?|\\?, \\.\\.\\.)\\))(?:, \\1)+");
+
+    private final transient Logger logger;
+    private final long slowQueryThresholdNanos;
+    private final transient Map<String, Shape> shapes = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates new query metrics.
+     *
+     * @param logger             the logger used for slow queries
+     * @param slowQueryThreshold the slow query threshold in milliseconds, 0 disables slow query logging
+     */
+    public QueryMetrics(Logger logger, long slowQueryThreshold) {
+        this.logger = logger;
+        this.slowQueryThresholdNanos = slowQueryThreshold > 0 ? TimeUnit.MILLISECONDS.toNanos(slowQueryThreshold) : Long.MAX_VALUE;
+    }
+
+    @Override
+    public void start(ExecuteContext ctx) {
+        ctx.data(STATE_KEY, new long[]{System.nanoTime(), 0}); // Start time & fetched rows
+    }
+
+    @Override
+    public void recordEnd(ExecuteContext ctx) {
+        if (ctx.data(STATE_KEY) instanceof long[] state)
+            state[1]++;
+    }
+
+    @Override
+    public void end(ExecuteContext ctx) {
+        if (!(ctx.data(STATE_KEY) instanceof long[] state))
+            return;
+
+        final long elapsed = System.nanoTime() - state[0];
+        final String sql = sql(ctx);
+        if (sql == null)
+            return;
+
+        final long rows = state[1] > 0 ? state[1] : Math.max(0, ctx.rows()); // Fetched rows for queries, affected rows for DML
+        final Shape shape = shape(sql);
+        shape.latency.record(elapsed, TimeUnit.NANOSECONDS);
+        shape.rows.add(rows);
+        if (ctx.exception() != null)
+            shape.errors.increment();
+
+        if (elapsed >= slowQueryThresholdNanos) {
+            logger.warn("[DB] Slow query took {}ms ({} rows) in {}: {}", TimeUnit.NANOSECONDS.toMillis(elapsed), rows, caller(), sql);
+        }
+    }
+
+    /**
+     * Get the rendered sql of the executed statement, or of the first statement of a batch.
+     */
+    private static String sql(ExecuteContext ctx) {
+        if (ctx.sql() != null)
+            return ctx.sql();
+
+        final String[] batchSQL = ctx.batchSQL();
+        if (batchSQL.length > 0 && batchSQL[0] != null)
+            return "/* batch */ " + batchSQL[0];
+
+        return null;
+    }
+
+    private Shape shape(String sql) {
+        final String key = normalize(sql);
+
+        final Shape existing = shapes.get(key);
+        if (existing != null)
+            return existing;
+
+        if (shapes.size() >= MAX_SHAPES)
+            return shapes.computeIfAbsent(OVERFLOW_SHAPE, unused -> new Shape("-"));
+
+        return shapes.computeIfAbsent(key, unused -> new Shape(caller()));
+    }
+
+    /**
+     * Reduce a statement to its shape.
+     *
+     * @param sql the sql
+     * @return the shape
+     */
+    public static String normalize(String sql) {
+        String shape = PLACEHOLDER_LIST.matcher(sql).replaceAll("(?, ...)");
+        shape = REPEATED_TUPLES.matcher(shape).replaceAll("$1, ...");
+        if (shape.length() > MAX_SQL_LENGTH)
+            shape = shape.substring(0, MAX_SQL_LENGTH) + "...";
+        return shape;
+    }
+
+    /**
+     * Find the first method outside jOOQ and the database internals which caused the current statement, i.e. {@code Queries.Cooldown.load}.
+     *
+     * @return the caller
+     */
+    private static String caller() {
+        return StackWalker.getInstance().walk(frames -> frames
+            .filter(frame -> {
+                final String className = frame.getClassName();
+                return !className.startsWith("org.jooq.")
+                    && !className.startsWith("java.")
+                    && !className.startsWith("jdk.")
+                    && !className.startsWith("com.zaxxer.")
+                    && !className.startsWith(QueryMetrics.class.getPackageName())
+                    && !className.startsWith("org.flywaydb.");
+            })
+            .findFirst()
+            .map(frame -> {
+                final String className = frame.getClassName();
+                return className.substring(className.lastIndexOf('.') + 1).replace('$', '.') + "." + frame.getMethodName();
+            })
+            .orElse("unknown")
+        );
+    }
+
+    /**
+     * Take a snapshot of all tracked statement shapes, sorted by total time spent descending.
+     *
+     * @return the snapshots
+     */
+    public List<Snapshot> snapshot() {
+        return shapes.entrySet().stream()
+            .map(entry -> new Snapshot(
+                entry.getKey(),
+                entry.getValue().caller,
+                entry.getValue().rows.sum(),
+                entry.getValue().errors.sum(),
+                entry.getValue().latency.snapshot()
+            ))
+            .sorted(Comparator.comparingLong(Snapshot::totalMicros).reversed())
+            .toList();
+    }
+
+    /**
+     * Clear all tracked statement shapes.
+     */
+    public void reset() {
+        shapes.clear();
+    }
+
+    /**
+     * Statistics of a single statement shape.
+     */
+    private static final class Shape {
+        private final String caller;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        private Shape(String caller) {
+            this.caller = caller;
+        }
+    }
+
+    /**
+     * A point-in-time view of a statement shape.
+     *
+     * @param sql     the statement shape
+     * @param caller  the method which first executed this statement
+     * @param rows    the total amount of rows fetched or affected
+     * @param errors  the amount of failed executions
+     * @param latency the execution latency
+     */
+    public record Snapshot(@NotNull String sql, @NotNull String caller, long rows, long errors, @NotNull LatencyHistogram.Snapshot latency) {
+        /**
+         * Gets the amount of executions.
+         *
+         * @return the executions
+         */
+        public long executions() {
+            return latency.count();
+        }
+
+        /**
+         * Gets the approximate total time spent executing this statement in microseconds.
+         *
+         * @return the total time
+         */
+        public long totalMicros() {
+            return latency.count() * latency.mean();
+        }
+    }
+}
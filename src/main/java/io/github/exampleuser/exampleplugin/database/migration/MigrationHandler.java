@@ -9,22 +9,46 @@ import org.flywaydb.core.api.MigrationInfoService;
 import org.flywaydb.core.api.output.MigrateResult;
 import org.flywaydb.core.api.output.RepairResult;
 import org.flywaydb.core.api.output.ValidateResult;
+import org.flywaydb.core.internal.license.VersionPrinter;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
-import java.util.Map;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
 
 /**
  * Handles Flyway migrations.
+ * <p>
+ * After every successful migration a fingerprint of the bundled migrations is stored in the database. When the fingerprint is unchanged on the next startup,
+ * Flyway's classpath scan and validation are skipped entirely as every bundled migration is known to be applied.
  */
 @SuppressWarnings({"UnusedReturnValue"})
 public final class MigrationHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(MigrationHandler.class);
+    private static final String STATE_TABLE = "migration_state"; // Created by V6__migration_state.sql
 
     private final DataSource dataSource;
     private final DatabaseConfig databaseConfig;
+    private final List<String> locations;
     private Flyway flyway;
 
     /**
@@ -36,11 +60,25 @@ public final class MigrationHandler {
     public MigrationHandler(DataSource dataSource, DatabaseConfig databaseConfig) {
         this.dataSource = dataSource;
         this.databaseConfig = databaseConfig;
-        initializeFlywayInstance();
+        this.locations = List.of(
+            "%s/migrations".formatted(getClass().getPackageName().replace('.', '/')),
+            "db/migration/%s".formatted(databaseConfig.getDatabaseType().getJdbcPrefix())
+        );
+    }
+
+    /**
+     * Gets the Flyway instance, creating it on first use as migrations may not need Flyway at all.
+     *
+     * @return the flyway instance
+     */
+    private Flyway flyway() {
+        if (flyway == null)
+            initializeFlywayInstance();
+
+        return flyway;
     }
 
     private void initializeFlywayInstance() {
-        final String packagePath = getClass().getPackageName().replace('.', '/');
         final Map<String, String> SQL_PLACEHOLDERS = Map.of(
             "tablePrefix", databaseConfig.getTablePrefix()
         );
@@ -52,10 +90,7 @@ public final class MigrationHandler {
             .baselineVersion("0.0")
             .validateMigrationNaming(true)
             .dataSource(dataSource)
-            .locations(
-                "classpath:%s/migrations".formatted(packagePath),
-                "db/migration/%s".formatted(databaseConfig.getDatabaseType().getJdbcPrefix())
-            )
+            .locations(locations.stream().map("classpath:%s"::formatted).toArray(String[]::new))
             .table(databaseConfig.getTablePrefix() + "schema_history") // Configure tables and migrations
             .placeholders(SQL_PLACEHOLDERS)
             .load();
@@ -63,18 +98,28 @@ public final class MigrationHandler {
 
     /**
      * Execute Flyway migration. All pending migrations will be applied in order.
+     * Skipped if the bundled migrations are unchanged since the last successful migration of this database.
      *
-     * @return MigrateResult with migration details
+     * @return MigrateResult with migration details or null if the migration was skipped
      * @throws DatabaseMigrationException database migration exception
      */
-    public MigrateResult migrate() throws DatabaseMigrationException {
+    public @Nullable MigrateResult migrate() throws DatabaseMigrationException {
+        final String fingerprint = fingerprint();
+        if (fingerprint != null && fingerprint.equals(fetchFingerprint())) {
+            LOGGER.info("Database schema is up to date, skipped migration.");
+            return null;
+        }
+
         try {
             LOGGER.info("Starting database migration...");
 
-            final MigrateResult result = this.flyway.migrate();
+            final MigrateResult result = flyway().migrate();
 
             LOGGER.info("Migration completed successfully. Applied {} migrations.", result.migrationsExecuted);
 
+            if (fingerprint != null)
+                storeFingerprint(fingerprint);
+
             return result;
         } catch (FlywayException e) {
             LOGGER.error("Migration failed: {}", e.getMessage(), e);
@@ -97,7 +142,7 @@ public final class MigrationHandler {
         try {
             if (databaseConfig.isRepair()) {
                 LOGGER.info("Starting database repair...");
-                final RepairResult result = this.flyway.repair();
+                final RepairResult result = flyway().repair();
                 LOGGER.info("Database repair completed successfully.");
                 return result;
             }
@@ -117,7 +162,7 @@ public final class MigrationHandler {
     public ValidateResult validate() throws DatabaseMigrationException {
         try {
             LOGGER.info("Validating database migrations...");
-            final ValidateResult result = this.flyway.validateWithResult();
+            final ValidateResult result = flyway().validateWithResult();
 
             if (result.validationSuccessful) {
                 LOGGER.info("Migration validation successful.");
@@ -139,7 +184,7 @@ public final class MigrationHandler {
      * @return Array of MigrationInfo objects
      */
     public MigrationInfo[] info() {
-        final MigrationInfoService infoService = this.flyway.info();
+        final MigrationInfoService infoService = flyway().info();
         final MigrationInfo[] migrations = infoService.all();
 
         LOGGER.info("Found {} total migrations ({} applied, {} pending).",
@@ -149,4 +194,119 @@ public final class MigrationHandler {
 
         return migrations;
     }
+
+    /**
+     * Compute a fingerprint of the bundled migrations, covering the name and content of every migration, the migration locations, the Flyway version and the table prefix substituted into them.
+     * Jar entries are fingerprinted by their stored CRC, so no migration has to be read.
+     *
+     * @return the fingerprint or null if the migrations could not be listed or a location contains no migrations
+     */
+    @Nullable String fingerprint() {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(VersionPrinter.getVersion().getBytes(StandardCharsets.UTF_8));
+            digest.update(databaseConfig.getTablePrefix().getBytes(StandardCharsets.UTF_8));
+
+            for (String location : locations) {
+                digest.update(location.getBytes(StandardCharsets.UTF_8));
+
+                int found = 0;
+                final Enumeration<URL> urls = getClass().getClassLoader().getResources(location);
+                while (urls.hasMoreElements()) {
+                    final URL url = urls.nextElement();
+                    switch (url.getProtocol()) {
+                        case "jar" -> found += fingerprintJar(digest, url, location);
+                        case "file" -> found += fingerprintDirectory(digest, Path.of(url.toURI()));
+                        default -> {
+                            return null;
+                        }
+                    }
+                }
+
+                if (found == 0) { // Migrations may be missing due to packaging, so a matching fingerprint can not be trusted
+                    LOGGER.warn("Found no migrations in {}, running a full migration.", location);
+                    return null;
+                }
+            }
+
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | URISyntaxException | NoSuchAlgorithmException e) {
+            LOGGER.warn("Failed to fingerprint migrations, running a full migration: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static int fingerprintJar(MessageDigest digest, URL url, String location) throws IOException {
+        final URLConnection connection = url.openConnection();
+        if (!(connection instanceof JarURLConnection jarConnection))
+            throw new IOException("Unexpected connection for %s".formatted(url));
+
+        final JarFile jar = jarConnection.getJarFile(); // Shared with the class loader, must not be closed
+        final String prefix = location + "/";
+        final List<JarEntry> entries = jar.stream()
+            .filter(entry -> !entry.isDirectory() && entry.getName().startsWith(prefix))
+            .sorted(Comparator.comparing(JarEntry::getName))
+            .toList();
+
+        for (JarEntry entry : entries) {
+            digest.update(entry.getName().getBytes(StandardCharsets.UTF_8));
+            digest.update(HexFormat.of().toHexDigits(entry.getCrc()).getBytes(StandardCharsets.UTF_8));
+        }
+        return entries.size();
+    }
+
+    private static int fingerprintDirectory(MessageDigest digest, Path directory) throws IOException {
+        final List<Path> files;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            files = paths.filter(Files::isRegularFile).sorted().toList();
+        }
+
+        for (Path file : files) {
+            digest.update(directory.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+            try (InputStream in = Files.newInputStream(file)) {
+                digest.update(in.readAllBytes());
+            }
+        }
+        return files.size();
+    }
+
+    /**
+     * Fetch the fingerprint stored by the last successful migration.
+     *
+     * @return the fingerprint or null if there is none, i.e. in a new database
+     */
+    private @Nullable String fetchFingerprint() {
+        try (
+            Connection connection = dataSource.getConnection();
+            PreparedStatement statement = connection.prepareStatement("SELECT \"fingerprint\" FROM \"%s%s\" WHERE \"id\" = 1".formatted(databaseConfig.getTablePrefix(), STATE_TABLE));
+            ResultSet resultSet = statement.executeQuery()
+        ) {
+            return resultSet.next() ? resultSet.getString(1) : null;
+        } catch (SQLException e) {
+            return null; // The table does not exist before the first migration
+        }
+    }
+
+    private void storeFingerprint(String fingerprint) {
+        final String table = "%s%s".formatted(databaseConfig.getTablePrefix(), STATE_TABLE);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (
+                PreparedStatement delete = connection.prepareStatement("DELETE FROM \"%s\" WHERE \"id\" = 1".formatted(table));
+                PreparedStatement insert = connection.prepareStatement("INSERT INTO \"%s\" (\"id\", \"fingerprint\") VALUES (1, ?)".formatted(table))
+            ) {
+                delete.executeUpdate();
+                insert.setString(1, fingerprint);
+                insert.executeUpdate();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            LOGGER.warn("Failed to store migration fingerprint, the next startup will run a full migration: {}", e.getMessage());
+        }
+    }
 }
@@ -2,6 +2,7 @@ package io.github.exampleuser.exampleplugin.database.pool;
 
 import com.zaxxer.hikari.HikariConfig;
 import io.github.exampleuser.exampleplugin.database.config.DatabaseConfig;
+import io.github.exampleuser.exampleplugin.database.config.ReplicaConfig;
 import io.github.exampleuser.exampleplugin.database.exception.DatabaseInitializationException;
 import io.github.exampleuser.exampleplugin.database.handler.DatabaseType;
 
@@ -11,11 +12,48 @@ import java.util.Optional;
 import static io.github.exampleuser.exampleplugin.database.handler.DatabaseType.SQLITE;
 
 public final class ConnectionPoolConfigFactory {
+    private static final int SQLITE_BUSY_TIMEOUT = 10_000; // How long a SQLite connection waits on a lock held by another process before failing with SQLITE_BUSY
+
     public static HikariConfig get() throws DatabaseInitializationException {
         return get(DatabaseConfig.builder().build());
     }
 
     public static HikariConfig get(DatabaseConfig config) throws DatabaseInitializationException {
+        return get(config, config.getHost(), config.getPort());
+    }
+
+    public static HikariConfig getReplica(DatabaseConfig config, ReplicaConfig replica, int index) throws DatabaseInitializationException {
+        final HikariConfig hikariConfig = get(config, replica.host(), replica.port());
+
+        hikariConfig.setPoolName("%s-hikari-replica-%d".formatted(config.getDatabaseType().getJdbcPrefix(), index));
+        hikariConfig.setReadOnly(true);
+
+        return hikariConfig;
+    }
+
+    /**
+     * Get the config of the reader pool for single writer databases, whose primary pool only holds the writer connection.
+     *
+     * @param config the database config
+     * @return the hikari config
+     * @throws DatabaseInitializationException if the database type does not use a reader pool
+     */
+    public static HikariConfig getReader(DatabaseConfig config) throws DatabaseInitializationException {
+        if (!config.getDatabaseType().isSingleWriter())
+            throw new DatabaseInitializationException("Attempted to create a reader pool for %s which supports concurrent writers!".formatted(config.getDatabaseType()));
+
+        final HikariConfig hikariConfig = get(config, config.getHost(), config.getPort());
+
+        // WAL mode lets readers proceed alongside the writer, so readers get the full pool size
+        hikariConfig.setPoolName("%s-hikari-reader".formatted(config.getDatabaseType().getJdbcPrefix()));
+        hikariConfig.setMaximumPoolSize(config.getMaxPoolSize());
+        hikariConfig.setMinimumIdle(Math.min(config.getMinIdle(), config.getMaxPoolSize()));
+        hikariConfig.setConnectionInitSql("PRAGMA query_only = true;");
+
+        return hikariConfig;
+    }
+
+    private static HikariConfig get(DatabaseConfig config, String host, int port) throws DatabaseInitializationException {
         HikariConfig hikariConfig = new HikariConfig();
 
         final DatabaseType databaseType = config.getDatabaseType();
@@ -38,8 +76,8 @@ public final class ConnectionPoolConfigFactory {
             case MYSQL, MARIADB -> {
                 yield "jdbc:%s://%s:%s/%s%s%s".formatted(
                     databaseType.getJdbcPrefix(),
-                    config.getHost(),
-                    config.getPort(),
+                    host,
+                    port,
                     config.getDatabase(),
                     databaseType.getDefaultConnectionProperties(),
                     config.getConnectionProperties()
@@ -59,9 +97,25 @@ public final class ConnectionPoolConfigFactory {
             }
         }
 
-        // Set pool configuration
-        hikariConfig.setMaximumPoolSize(config.getMaxPoolSize());
-        hikariConfig.setMinimumIdle(config.getMinIdle());
+        // Set pool configuration, sized to the amount of connections the database can make use of
+        switch (databaseType) {
+            case SQLITE -> {
+                // SQLite allows one writer at a time, more connections only contend for the write lock. Reads use a separate pool, see getReader
+                hikariConfig.setMaximumPoolSize(1);
+                hikariConfig.setMinimumIdle(1);
+                hikariConfig.addDataSourceProperty("busyTimeout", SQLITE_BUSY_TIMEOUT);
+            }
+            case H2 -> {
+                // Embedded H2 runs queries on the calling thread, connections beyond the core count only add contention
+                final int maxPoolSize = Math.min(config.getMaxPoolSize(), Math.max(2, Runtime.getRuntime().availableProcessors()));
+                hikariConfig.setMaximumPoolSize(maxPoolSize);
+                hikariConfig.setMinimumIdle(Math.min(config.getMinIdle(), maxPoolSize));
+            }
+            case MYSQL, MARIADB -> {
+                hikariConfig.setMaximumPoolSize(config.getMaxPoolSize());
+                hikariConfig.setMinimumIdle(config.getMinIdle());
+            }
+        }
         hikariConfig.setMaxLifetime(config.getMaxLifeTime());
         hikariConfig.setKeepaliveTime(config.getKeepAliveTime());
         hikariConfig.setConnectionTimeout(config.getConnectionTimeout());
@@ -81,6 +135,7 @@ public final class ConnectionPoolConfigFactory {
         hikariConfig.setTransactionIsolation("TRANSACTION_REPEATABLE_READ");
         hikariConfig.setIsolateInternalQueries(true);
         hikariConfig.setConnectionInitSql(databaseType.getConnectionInitSql());
+        hikariConfig.setRegisterMbeans(config.isRegisterMbeans()); // Opt-in, as MBean names are shared by every plugin built from this template
 
         return hikariConfig;
     }
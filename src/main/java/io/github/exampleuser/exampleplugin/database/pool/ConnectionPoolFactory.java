@@ -2,18 +2,51 @@ package io.github.exampleuser.exampleplugin.database.pool;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
 import io.github.exampleuser.exampleplugin.database.config.DatabaseConfig;
+import io.github.exampleuser.exampleplugin.database.config.ReplicaConfig;
 import io.github.exampleuser.exampleplugin.database.exception.DatabaseInitializationException;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 public final class ConnectionPoolFactory {
     public static HikariDataSource create(DatabaseConfig databaseConfig, Logger logger) throws DatabaseInitializationException {
+        return create(databaseConfig, logger, null);
+    }
+
+    public static HikariDataSource create(DatabaseConfig databaseConfig, Logger logger, @Nullable MetricsTrackerFactory metricsTrackerFactory) throws DatabaseInitializationException {
         try {
             HikariConfig hikariConfig = ConnectionPoolConfigFactory.get(databaseConfig);
+            if (metricsTrackerFactory != null)
+                hikariConfig.setMetricsTrackerFactory(metricsTrackerFactory);
 
             return new HikariDataSource(hikariConfig);
         } catch (Throwable t) {
             throw new DatabaseInitializationException("Failed to initialize database pool during startup. Are you using the correct database type?");
         }
     }
+
+    public static HikariDataSource createReader(DatabaseConfig databaseConfig, Logger logger, @Nullable MetricsTrackerFactory metricsTrackerFactory) throws DatabaseInitializationException {
+        try {
+            HikariConfig hikariConfig = ConnectionPoolConfigFactory.getReader(databaseConfig);
+            if (metricsTrackerFactory != null)
+                hikariConfig.setMetricsTrackerFactory(metricsTrackerFactory);
+
+            return new HikariDataSource(hikariConfig);
+        } catch (Throwable t) {
+            throw new DatabaseInitializationException("Failed to initialize database reader pool during startup.");
+        }
+    }
+
+    public static HikariDataSource createReplica(DatabaseConfig databaseConfig, ReplicaConfig replica, int index, Logger logger, @Nullable MetricsTrackerFactory metricsTrackerFactory) throws DatabaseInitializationException {
+        try {
+            HikariConfig hikariConfig = ConnectionPoolConfigFactory.getReplica(databaseConfig, replica, index);
+            if (metricsTrackerFactory != null)
+                hikariConfig.setMetricsTrackerFactory(metricsTrackerFactory);
+
+            return new HikariDataSource(hikariConfig);
+        } catch (Throwable t) {
+            throw new DatabaseInitializationException("Failed to initialize read replica pool for %s during startup.".formatted(replica));
+        }
+    }
 }
@@ -0,0 +1,269 @@
+package io.github.exampleuser.exampleplugin.database.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import io.github.exampleuser.exampleplugin.database.config.DatabaseConfig;
+import io.github.exampleuser.exampleplugin.database.config.ReplicaConfig;
+import io.github.exampleuser.exampleplugin.database.exception.DatabaseInitializationException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Owns one connection pool per read replica and routes read-only queries between them.
+ * <p>
+ * Replica lag is polled in the background, replicas which lag behind the primary by more than the configured limit, or whose replication has stopped, are skipped until they catch up.
+ * Polling lag requires the {@code REPLICATION CLIENT} privilege, replicas whose lag can not be polled are assumed to be in sync.
+ * Callers are expected to fall back to the primary whenever no replica is available.
+ */
+public final class ReplicaRouter implements AutoCloseable {
+    private static final long LAG_UNKNOWN = -2;
+    private static final int ER_SPECIFIC_ACCESS_DENIED = 1227; // Missing the REPLICATION CLIENT privilege
+    private static final int ER_TABLEACCESS_DENIED = 1142;
+
+    private final Logger logger;
+    private final List<Replica> replicas;
+    private final ReplicaRouting routing;
+    private final long maxLag;
+    private final AtomicInteger counter = new AtomicInteger();
+    private final ScheduledExecutorService lagChecker;
+
+    private ReplicaRouter(Logger logger, List<Replica> replicas, ReplicaRouting routing, long maxLag, long lagCheckInterval) {
+        this.logger = logger;
+        this.replicas = Collections.unmodifiableList(replicas);
+        this.routing = routing;
+        this.maxLag = maxLag;
+        this.lagChecker = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("db-replica-lag-checker").daemon().factory());
+
+        checkLag(); // Ensure replicas start out in the correct state
+        this.lagChecker.scheduleWithFixedDelay(this::checkLag, lagCheckInterval, lagCheckInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Create connection pools for all configured read replicas.
+     *
+     * @param config                the database config
+     * @param logger                the logger
+     * @param metricsTrackerFactory the metrics tracker factory for replica pools
+     * @return the replica router
+     * @throws DatabaseInitializationException if any replica pool failed to start
+     */
+    public static ReplicaRouter create(DatabaseConfig config, Logger logger, @Nullable MetricsTrackerFactory metricsTrackerFactory) throws DatabaseInitializationException {
+        final List<Replica> replicas = new ArrayList<>();
+        try {
+            int index = 0;
+            for (ReplicaConfig replicaConfig : config.getReplicas()) {
+                replicas.add(new Replica(replicaConfig, ConnectionPoolFactory.createReplica(config, replicaConfig, index++, logger, metricsTrackerFactory)));
+            }
+        } catch (DatabaseInitializationException e) {
+            replicas.forEach(replica -> replica.pool().close()); // Don't leak the pools that did start
+            throw e;
+        }
+
+        return new ReplicaRouter(logger, replicas, config.getReplicaRouting(), config.getMaxReplicaLag(), config.getReplicaLagCheckInterval());
+    }
+
+    /**
+     * Get a connection from a healthy replica chosen by the routing strategy.
+     * If the chosen replica fails to provide a connection it is marked unhealthy until the next lag check.
+     *
+     * @return the connection or null if no replica is available
+     */
+    public @Nullable Connection getConnection() {
+        final Replica replica = route();
+        if (replica == null)
+            return null;
+
+        try {
+            return replica.pool().getConnection();
+        } catch (SQLException e) {
+            replica.healthy = false;
+            logger.warn("[DB] Read replica {} failed to provide a connection, using primary until it recovers: {}", replica.config(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Pick a healthy replica.
+     *
+     * @return the replica or null if none are healthy
+     */
+    private @Nullable Replica route() {
+        return switch (routing) {
+            case ROUND_ROBIN -> {
+                final int size = replicas.size();
+                final int start = Math.floorMod(counter.getAndIncrement(), size);
+                for (int i = 0; i < size; i++) {
+                    final Replica replica = replicas.get((start + i) % size);
+                    if (replica.healthy)
+                        yield replica;
+                }
+                yield null;
+            }
+            case LEAST_BUSY -> {
+                Replica best = null;
+                int bestLoad = Integer.MAX_VALUE;
+                for (Replica replica : replicas) {
+                    if (!replica.healthy)
+                        continue;
+
+                    final int load = replica.load();
+                    if (load < bestLoad) {
+                        best = replica;
+                        bestLoad = load;
+                    }
+                }
+                yield best;
+            }
+        };
+    }
+
+    /**
+     * Poll the replication lag of every replica and update their health.
+     */
+    private void checkLag() {
+        for (Replica replica : replicas) {
+            final boolean wasHealthy = replica.healthy;
+            try (Connection connection = replica.pool().getConnection()) {
+                final long lag = fetchLag(connection);
+                replica.lag = lag;
+                if (lag == LAG_UNKNOWN) {
+                    replica.healthy = true;
+                    if (!replica.lagUnknown)
+                        logger.warn("[DB] Read replica {} is missing the REPLICATION CLIENT privilege, its lag can not be checked and it is assumed to be in sync.", replica.config());
+                    replica.lagUnknown = true;
+                } else {
+                    replica.healthy = lag >= 0 && lag <= maxLag;
+                }
+            } catch (SQLException e) {
+                replica.lag = -1;
+                replica.healthy = false;
+            }
+
+            if (wasHealthy && !replica.healthy) {
+                logger.warn("[DB] Read replica {} is unavailable or lagging behind ({} ms), routing its reads to the primary.", replica.config(), replica.lag);
+            } else if (!wasHealthy && replica.healthy) {
+                logger.info("[DB] Read replica {} caught up, resuming reads.", replica.config());
+            }
+        }
+    }
+
+    /**
+     * Fetch how far behind the primary a replica is.
+     *
+     * @param connection a connection to the replica
+     * @return the lag in milliseconds, 0 if the server is not a replica, -1 if replication is stopped, or {@link #LAG_UNKNOWN} if the user may not query the replication status
+     * @throws SQLException if the status could not be queried
+     */
+    private static long fetchLag(Connection connection) throws SQLException {
+        try {
+            return fetchLag(connection, "SHOW REPLICA STATUS", "Seconds_Behind_Source"); // MySQL 8.0.22+
+        } catch (SQLException e) {
+            if (isAccessDenied(e))
+                return LAG_UNKNOWN;
+        }
+
+        try {
+            return fetchLag(connection, "SHOW SLAVE STATUS", "Seconds_Behind_Master"); // MariaDB & older MySQL
+        } catch (SQLException e) {
+            if (isAccessDenied(e))
+                return LAG_UNKNOWN;
+            throw e;
+        }
+    }
+
+    private static boolean isAccessDenied(SQLException e) {
+        return e.getErrorCode() == ER_SPECIFIC_ACCESS_DENIED || e.getErrorCode() == ER_TABLEACCESS_DENIED;
+    }
+
+    private static long fetchLag(Connection connection, String query, String column) throws SQLException {
+        try (
+            Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery(query)
+        ) {
+            if (!resultSet.next())
+                return 0; // Not configured as a replica, i.e. a cluster node, nothing to lag behind
+
+            final long seconds = resultSet.getLong(column);
+            if (resultSet.wasNull())
+                return -1; // Replication threads are not running
+
+            return TimeUnit.SECONDS.toMillis(seconds);
+        }
+    }
+
+    /**
+     * Get the amount of healthy replicas.
+     *
+     * @return the amount of healthy replicas
+     */
+    public int getHealthyCount() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    /**
+     * Get the amount of configured replicas.
+     *
+     * @return the amount of replicas
+     */
+    public int getCount() {
+        return replicas.size();
+    }
+
+    /**
+     * Stops lag checking and closes all replica pools.
+     */
+    @Override
+    public void close() {
+        lagChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            if (!replica.pool().isClosed())
+                replica.pool().close();
+        }
+    }
+
+    /**
+     * A single read replica and its pool.
+     */
+    private static final class Replica {
+        private final ReplicaConfig config;
+        private final HikariDataSource pool;
+        private volatile boolean healthy = true;
+        private volatile long lag = 0;
+        private boolean lagUnknown = false; // Only accessed by the lag checker
+
+        private Replica(ReplicaConfig config, HikariDataSource pool) {
+            this.config = config;
+            this.pool = pool;
+        }
+
+        private @NotNull ReplicaConfig config() {
+            return config;
+        }
+
+        private @NotNull HikariDataSource pool() {
+            return pool;
+        }
+
+        /**
+         * Active plus pending connections of this replica's pool.
+         */
+        private int load() {
+            final HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+            if (bean == null)
+                return Integer.MAX_VALUE;
+
+            return bean.getActiveConnections() + bean.getThreadsAwaitingConnection();
+        }
+    }
+}
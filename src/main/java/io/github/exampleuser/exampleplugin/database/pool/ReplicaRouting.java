@@ -0,0 +1,33 @@
+package io.github.exampleuser.exampleplugin.database.pool;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Strategies for picking which read replica serves a read-only query.
+ */
+public enum ReplicaRouting {
+    /**
+     * Cycle through healthy replicas in order.
+     */
+    ROUND_ROBIN,
+    /**
+     * Pick the healthy replica with the fewest active and pending connections.
+     */
+    LEAST_BUSY;
+
+    /**
+     * Parse a routing strategy from its config name, i.e. {@code "round-robin"}.
+     *
+     * @param name the name
+     * @return the routing strategy, defaults to {@link #ROUND_ROBIN}
+     */
+    public static ReplicaRouting fromString(@Nullable String name) {
+        if (name == null)
+            return ROUND_ROBIN;
+
+        return switch (name.toLowerCase().replace('_', '-')) {
+            case "least-busy" -> LEAST_BUSY;
+            default -> ROUND_ROBIN;
+        };
+    }
+}
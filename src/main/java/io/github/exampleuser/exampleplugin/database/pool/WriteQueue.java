@@ -0,0 +1,90 @@
+package io.github.exampleuser.exampleplugin.database.pool;
+
+import org.slf4j.Logger;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Queues writes onto a fixed set of writer threads, matching the amount of connections the database can write with at once.
+ * <p>
+ * For single writer databases like SQLite one writer thread runs the queued writes in submission order, so callers never block on or time out waiting for the write lock.
+ * Only writes submitted to the queue are serialized, currently the cooldown saves and layout conversion. Other writes, such as sync messages, borrow the writer connection directly and wait for it through the pool.
+ */
+public final class WriteQueue implements AutoCloseable {
+    private static final long SHUTDOWN_TIMEOUT = 10_000L;
+
+    private final Logger logger;
+    private final ExecutorService executor;
+    private final AtomicInteger pending = new AtomicInteger();
+
+    /**
+     * Instantiates a new write queue.
+     *
+     * @param logger  the logger
+     * @param writers the amount of writes to run concurrently
+     */
+    public WriteQueue(Logger logger, int writers) {
+        this.logger = logger;
+        this.executor = Executors.newFixedThreadPool(writers, Thread.ofPlatform().name("db-writer-", 0).daemon().factory());
+    }
+
+    /**
+     * Queue a write.
+     *
+     * @param write the write
+     * @return a future completing once the write has run
+     */
+    public CompletableFuture<Void> execute(Runnable write) {
+        return submit(() -> {
+            write.run();
+            return null;
+        });
+    }
+
+    /**
+     * Queue a write producing a result.
+     *
+     * @param write the write
+     * @param <T>   the result type
+     * @return a future completing with the result once the write has run
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> write) {
+        pending.incrementAndGet();
+        try {
+            return CompletableFuture.supplyAsync(write, executor)
+                .whenComplete((result, throwable) -> pending.decrementAndGet());
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Gets the amount of writes which are queued or running.
+     *
+     * @return the amount of pending writes
+     */
+    public int getPending() {
+        return pending.get();
+    }
+
+    /**
+     * Stops accepting writes and waits for queued writes to finish.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS))
+                return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        final List<Runnable> dropped = executor.shutdownNow();
+        logger.warn("[DB] Timed out waiting for queued writes to finish, dropped {} writes.", dropped.size());
+    }
+}
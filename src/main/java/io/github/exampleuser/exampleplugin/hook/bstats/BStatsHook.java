@@ -1,8 +1,12 @@
 package io.github.exampleuser.exampleplugin.hook.bstats;
 
 import io.github.exampleuser.exampleplugin.ExamplePlugin;
+import io.github.exampleuser.exampleplugin.database.metrics.PoolMetrics;
 import io.github.exampleuser.exampleplugin.hook.AbstractHook;
+import io.github.exampleuser.exampleplugin.utility.DB;
 import org.bstats.bukkit.Metrics;
+import org.bstats.charts.SimplePie;
+import org.bstats.charts.SingleLineChart;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
@@ -11,7 +15,9 @@ import org.jetbrains.annotations.Nullable;
  */
 public class BStatsHook extends AbstractHook {
     private final static int BSTATS_ID = 1234; // Signup to BStats and register your new plugin here: https://bstats.org/getting-started, replace the id with you new one!
+    private final static boolean DATABASE_CHARTS = false; // Whether to submit connection pool charts, the charts "database_active_connections", "database_connection_timeouts" and "database_wait_time" must be added to your plugin page on BStats
     private @Nullable Metrics hook;
+    private long lastConnectionTimeouts = 0;
 
     /**
      * Instantiates a new BStats hook.
@@ -27,6 +33,8 @@ public class BStatsHook extends AbstractHook {
         // Catch startup errors for bstats
         try {
             setHook(new Metrics(getPlugin(), BSTATS_ID));
+            if (DATABASE_CHARTS)
+                addDatabaseCharts(getHook());
         } catch (Exception ignored) {
             setHook(null);
         }
@@ -38,6 +46,54 @@ public class BStatsHook extends AbstractHook {
         setHook(null);
     }
 
+    /**
+     * Adds charts tracking the connection pools. Values are sampled whenever BStats submits data, roughly every 30 minutes.
+     *
+     * @param metrics the metrics instance
+     */
+    private void addDatabaseCharts(Metrics metrics) {
+        metrics.addCustomChart(new SingleLineChart("database_active_connections", () -> {
+            if (!DB.isReady())
+                return 0;
+
+            return DB.getHandler().getPoolMetrics().snapshot().stream()
+                .mapToInt(PoolMetrics.Snapshot::active)
+                .sum();
+        }));
+
+        metrics.addCustomChart(new SingleLineChart("database_connection_timeouts", () -> {
+            if (!DB.isReady())
+                return 0;
+
+            final long timeouts = DB.getHandler().getPoolMetrics().getAll().stream()
+                .mapToLong(PoolMetrics::getConnectionTimeouts)
+                .sum();
+            final long delta = Math.max(0, timeouts - lastConnectionTimeouts); // Only report timeouts since last submission
+            lastConnectionTimeouts = timeouts;
+            return (int) Math.min(delta, Integer.MAX_VALUE);
+        }));
+
+        metrics.addCustomChart(new SimplePie("database_wait_time", () -> {
+            if (!DB.isReady())
+                return null;
+
+            final long p95 = DB.getHandler().getPoolMetrics().getAll().stream()
+                .mapToLong(pool -> pool.getAcquireLatency().getPercentile(95))
+                .max()
+                .orElse(0);
+
+            if (p95 < 1_000)
+                return "<1ms";
+            if (p95 < 10_000)
+                return "1-10ms";
+            if (p95 < 100_000)
+                return "10-100ms";
+            if (p95 < 1_000_000)
+                return "100ms-1s";
+            return ">1s";
+        }));
+    }
+
     @Override
     public boolean isHookLoaded() {
         return hook != null;
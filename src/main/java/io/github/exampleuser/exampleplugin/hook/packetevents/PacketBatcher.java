@@ -0,0 +1,250 @@
+package io.github.exampleuser.exampleplugin.hook.packetevents;
+
+import com.github.retrooper.packetevents.event.PacketListener;
+import com.github.retrooper.packetevents.event.PacketSendEvent;
+import com.github.retrooper.packetevents.manager.player.PlayerManager;
+import com.github.retrooper.packetevents.netty.buffer.ByteBufHelper;
+import com.github.retrooper.packetevents.protocol.entity.data.EntityData;
+import com.github.retrooper.packetevents.protocol.player.User;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerEntityMetadata;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BinaryOperator;
+
+/**
+ * Batches outgoing packets per player and flushes them once per tick.
+ * <p>
+ * Packets queued with a key supersede a packet queued with the same key earlier in the tick, such as scoreboard score updates, and entity metadata of the same entity is merged by index.
+ * Packets broadcast from a location are only queued for players within the view range. Packets can be queued from any thread, broadcasts read player locations and must be made on the main thread.
+ * Packets for players who have not joined yet or already left are dropped.
+ */
+public final class PacketBatcher implements PacketListener {
+    private static final BinaryOperator<PacketWrapper<?>> SUPERSEDE = (previous, next) -> next;
+
+    private final Logger logger;
+    private final Server server;
+    private final PlayerManager playerManager;
+    private final double viewRangeSquared;
+    private final Map<UUID, PacketQueue> queues = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new packet batcher.
+     *
+     * @param logger        the logger
+     * @param server        the server
+     * @param playerManager the PacketEvents player manager used to send the packets
+     * @param viewRange     the distance in blocks within which players receive broadcast packets
+     */
+    PacketBatcher(Logger logger, Server server, PlayerManager playerManager, double viewRange) {
+        this.logger = logger;
+        this.server = server;
+        this.playerManager = playerManager;
+        this.viewRangeSquared = viewRange * viewRange;
+    }
+
+    private record MetadataKey(int entityId) {
+    }
+
+    private static final class PacketQueue {
+        private final PacketMetrics metrics = new PacketMetrics();
+        private final LinkedHashMap<Object, PacketWrapper<?>> packets = new LinkedHashMap<>(); // Guarded by this
+
+        synchronized void add(Object key, PacketWrapper<?> packet, BinaryOperator<PacketWrapper<?>> merge) {
+            final PacketWrapper<?> previous = packets.remove(key); // Re-added last, so it is sent after packets it may depend on
+            packets.put(key, previous == null ? packet : merge.apply(previous, packet));
+            metrics.recordQueued(previous != null);
+        }
+
+        synchronized List<PacketWrapper<?>> drain() {
+            if (packets.isEmpty())
+                return Collections.emptyList();
+
+            final List<PacketWrapper<?>> drained = new ArrayList<>(packets.values());
+            packets.clear();
+            return drained;
+        }
+    }
+
+    /**
+     * Queue a packet for a player.
+     *
+     * @param viewer the player
+     * @param packet the packet
+     */
+    public void send(Player viewer, PacketWrapper<?> packet) {
+        queue(viewer.getUniqueId(), new Object(), packet, SUPERSEDE);
+    }
+
+    /**
+     * Queue a packet for a player, superseding any packet queued with an equal key this tick.
+     *
+     * @param viewer the player
+     * @param packet the packet
+     * @param key    the key identifying what the packet updates, for example the objective and entry of a score
+     */
+    public void send(Player viewer, PacketWrapper<?> packet, Object key) {
+        queue(viewer.getUniqueId(), key, packet, SUPERSEDE);
+    }
+
+    /**
+     * Queue entity metadata for a player, merging it with metadata of the same entity queued this tick.
+     *
+     * @param viewer the player
+     * @param packet the entity metadata
+     */
+    public void sendMetadata(Player viewer, WrapperPlayServerEntityMetadata packet) {
+        queue(viewer.getUniqueId(), new MetadataKey(packet.getEntityId()), packet, PacketBatcher::mergeMetadata);
+    }
+
+    /**
+     * Queue a packet for all players within the view range of a location. Must be called on the main thread.
+     *
+     * @param origin the location the packet concerns
+     * @param packet the packet
+     * @param key    the key identifying what the packet updates, or null if it does not supersede other packets
+     */
+    public void broadcast(Location origin, PacketWrapper<?> packet, @Nullable Object key) {
+        final Object k = key == null ? new Object() : key;
+        for (Player viewer : nearby(origin))
+            queue(viewer.getUniqueId(), k, packet, SUPERSEDE);
+    }
+
+    /**
+     * Queue entity metadata for all players within the view range of a location. Must be called on the main thread.
+     *
+     * @param origin the location of the entity
+     * @param packet the entity metadata
+     */
+    public void broadcastMetadata(Location origin, WrapperPlayServerEntityMetadata packet) {
+        final MetadataKey key = new MetadataKey(packet.getEntityId());
+        for (Player viewer : nearby(origin))
+            queue(viewer.getUniqueId(), key, packet, PacketBatcher::mergeMetadata);
+    }
+
+    private List<Player> nearby(Location origin) {
+        final World world = origin.getWorld();
+        if (world == null)
+            return List.of();
+
+        final List<Player> viewers = new ArrayList<>();
+        for (Player player : world.getPlayers()) {
+            if (player.getLocation().distanceSquared(origin) <= viewRangeSquared) {
+                viewers.add(player);
+            } else {
+                final PacketQueue queue = queues.get(player.getUniqueId());
+                if (queue != null)
+                    queue.metrics.recordCulled();
+            }
+        }
+        return viewers;
+    }
+
+    private static PacketWrapper<?> mergeMetadata(PacketWrapper<?> previous, PacketWrapper<?> next) {
+        final Map<Integer, EntityData<?>> data = new LinkedHashMap<>();
+        for (EntityData<?> entry : ((WrapperPlayServerEntityMetadata) previous).getEntityMetadata())
+            data.put(entry.getIndex(), entry);
+        for (EntityData<?> entry : ((WrapperPlayServerEntityMetadata) next).getEntityMetadata())
+            data.put(entry.getIndex(), entry); // Newer values win
+
+        return new WrapperPlayServerEntityMetadata(((WrapperPlayServerEntityMetadata) next).getEntityId(), new ArrayList<>(data.values()));
+    }
+
+    private void queue(UUID uuid, Object key, PacketWrapper<?> packet, BinaryOperator<PacketWrapper<?>> merge) {
+        final PacketQueue queue = queues.get(uuid);
+        if (queue != null) // Not tracked, the player has not joined yet or already left
+            queue.add(key, packet, merge);
+    }
+
+    /**
+     * Send the packets queued this tick, flushing each connection once.
+     */
+    void flush() {
+        queues.forEach((uuid, queue) -> {
+            final List<PacketWrapper<?>> packets = queue.drain();
+            if (packets.isEmpty())
+                return;
+
+            final Player player = server.getPlayer(uuid);
+            if (player == null) {
+                queues.remove(uuid, queue); // Left before the flush
+                return;
+            }
+
+            try {
+                for (int i = 0; i < packets.size() - 1; i++)
+                    playerManager.writePacket(player, packets.get(i));
+                playerManager.sendPacket(player, packets.getLast()); // Writes and flushes the connection
+                queue.metrics.recordFlush(packets.size());
+            } catch (RuntimeException e) {
+                logger.warn("Failed to send {} packets to {}", packets.size(), uuid, e);
+            }
+        });
+    }
+
+    @Override
+    public void onPacketSend(PacketSendEvent event) {
+        if (event.isCancelled())
+            return;
+
+        final User user = event.getUser();
+        if (user == null || user.getUUID() == null)
+            return; // Not logged in yet
+
+        final PacketQueue queue = queues.get(user.getUUID());
+        if (queue != null)
+            queue.metrics.recordBytes(ByteBufHelper.readableBytes(event.getByteBuf()));
+    }
+
+    /**
+     * Start collecting metrics for a player.
+     *
+     * @param uuid the player UUID
+     */
+    void track(UUID uuid) {
+        queues.computeIfAbsent(uuid, k -> new PacketQueue());
+    }
+
+    /**
+     * Drop the queued packets and metrics of a player.
+     *
+     * @param uuid the player UUID
+     */
+    void untrack(UUID uuid) {
+        queues.remove(uuid);
+    }
+
+    /**
+     * Gets the outgoing packet metrics of a player.
+     *
+     * @param uuid the player UUID
+     * @return the metrics, or null if the player is not online
+     */
+    public @Nullable PacketMetrics getMetrics(UUID uuid) {
+        final PacketQueue queue = queues.get(uuid);
+        return queue == null ? null : queue.metrics;
+    }
+
+    /**
+     * Take a snapshot of the outgoing packet metrics of all online players.
+     *
+     * @return the snapshots by player UUID
+     */
+    public Map<UUID, PacketMetrics.Snapshot> snapshot() {
+        final Map<UUID, PacketMetrics.Snapshot> snapshots = new LinkedHashMap<>();
+        queues.forEach((uuid, queue) -> snapshots.put(uuid, queue.metrics.snapshot()));
+        return snapshots;
+    }
+}
@@ -1,15 +1,30 @@
 package io.github.exampleuser.exampleplugin.hook.packetevents;
 
 import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.event.PacketListenerCommon;
+import com.github.retrooper.packetevents.event.PacketListenerPriority;
 import io.github.exampleuser.exampleplugin.ExamplePlugin;
 import io.github.exampleuser.exampleplugin.hook.AbstractHook;
 import io.github.exampleuser.exampleplugin.hook.Hook;
+import io.github.exampleuser.exampleplugin.utility.Cfg;
 import io.github.retrooper.packetevents.factory.spigot.SpigotPacketEventsBuilder;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * A hook that enables API for PacketEvents.
  */
-public class PacketEventsHook extends AbstractHook {
+public class PacketEventsHook extends AbstractHook implements Listener {
+    private @Nullable PacketBatcher packetBatcher;
+    private @Nullable PacketListenerCommon metricsListener;
+    private @Nullable ScheduledTask flushTask;
+
     /**
      * Instantiates a new PacketEvents hook.
      *
@@ -34,6 +49,14 @@ public class PacketEventsHook extends AbstractHook {
             return;
 
         PacketEvents.getAPI().init();
+
+        final double viewRange = Cfg.get().contains("packets.view-range") ? Cfg.get().getDouble("packets.view-range") : 64D; // Accepts both 64 and 48.5
+        final PacketBatcher batcher = new PacketBatcher(plugin.getSLF4JLogger(), plugin.getServer(), PacketEvents.getAPI().getPlayerManager(), viewRange);
+        for (Player player : plugin.getServer().getOnlinePlayers())
+            batcher.track(player.getUniqueId()); // Players online during a reload
+        packetBatcher = batcher;
+        metricsListener = PacketEvents.getAPI().getEventManager().registerListener(batcher, PacketListenerPriority.MONITOR);
+        flushTask = plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(plugin, task -> batcher.flush(), 1L, 1L);
     }
 
     @Override
@@ -41,6 +64,16 @@ public class PacketEventsHook extends AbstractHook {
         if (!isPluginEnabled(Hook.PacketEvents.getPluginName()))
             return;
 
+        if (flushTask != null)
+            flushTask.cancel();
+        if (metricsListener != null)
+            PacketEvents.getAPI().getEventManager().unregisterListener(metricsListener);
+        if (packetBatcher != null)
+            packetBatcher.flush(); // Send packets queued this tick before terminating
+        flushTask = null;
+        metricsListener = null;
+        packetBatcher = null;
+
         PacketEvents.getAPI().terminate();
     }
 
@@ -48,4 +81,37 @@ public class PacketEventsHook extends AbstractHook {
     public boolean isHookLoaded() {
         return isPluginPresent(Hook.PacketEvents.getPluginName()) && PacketEvents.getAPI().isLoaded();
     }
+
+    /**
+     * Gets the packet batcher, which batches outgoing packets per player and flushes them once per tick. Should only be used after {@link #isHookLoaded()}.
+     *
+     * @return the packet batcher
+     */
+    public PacketBatcher getPacketBatcher() {
+        if (packetBatcher == null)
+            throw new NullPointerException("The plugin tried to use PacketEvents without it being loaded. Use the PacketEventsHook#isHookLoaded method before using PacketEvents methods.");
+        return packetBatcher;
+    }
+
+    /**
+     * Start collecting packet metrics for players joining the server.
+     *
+     * @param e event
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent e) {
+        if (packetBatcher != null)
+            packetBatcher.track(e.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Drop the queued packets and metrics of players leaving the server.
+     *
+     * @param e event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent e) {
+        if (packetBatcher != null)
+            packetBatcher.untrack(e.getPlayer().getUniqueId());
+    }
 }
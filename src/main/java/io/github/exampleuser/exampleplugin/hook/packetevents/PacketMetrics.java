@@ -0,0 +1,67 @@
+package io.github.exampleuser.exampleplugin.hook.packetevents;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the outgoing packet metrics of a single player. Created by {@link PacketBatcher}.
+ */
+public final class PacketMetrics {
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder merged = new LongAdder();
+    private final LongAdder culled = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+
+    PacketMetrics() {
+    }
+
+    void recordQueued(boolean merged) {
+        queued.increment();
+        if (merged)
+            this.merged.increment();
+    }
+
+    void recordCulled() {
+        culled.increment();
+    }
+
+    void recordFlush(int packets) {
+        sent.add(packets);
+        flushes.increment();
+    }
+
+    void recordBytes(int bytes) {
+        this.bytes.add(bytes);
+    }
+
+    /**
+     * Take a snapshot of the metrics.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(queued.sum(), merged.sum(), culled.sum(), sent.sum(), flushes.sum(), bytes.sum());
+    }
+
+    /**
+     * A point in time view of the outgoing packets of a player.
+     *
+     * @param queued  the packets queued through the batcher
+     * @param merged  the queued packets which superseded or were merged into a packet queued earlier in the same tick
+     * @param culled  the broadcast packets skipped as the player was not nearby
+     * @param sent    the packets sent by the batcher
+     * @param flushes the ticks in which the batcher sent packets
+     * @param bytes   the uncompressed bytes of all packets sent to the player, including packets not sent through the batcher
+     */
+    public record Snapshot(long queued, long merged, long culled, long sent, long flushes, long bytes) {
+        /**
+         * Gets the average amount of packets sent per flush.
+         *
+         * @return the packets per flush
+         */
+        public double packetsPerFlush() {
+            return flushes == 0 ? 0D : (double) sent / flushes;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.exampleuser.exampleplugin.hook.placeholderapi;
+
+import io.github.exampleuser.exampleplugin.cooldown.CooldownType;
+import io.github.exampleuser.exampleplugin.cooldown.Cooldowns;
+import io.github.exampleuser.exampleplugin.database.Queries;
+import io.github.exampleuser.exampleplugin.database.metrics.PoolMetrics;
+import io.github.exampleuser.exampleplugin.utility.DB;
+import io.github.exampleuser.exampleplugin.utility.Messenger;
+
+import java.time.Duration;
+import java.util.function.ToIntFunction;
+
+/**
+ * The placeholders provided by this plugin.
+ * <ul>
+ *     <li>{@code cooldown_<type>_remaining} the seconds remaining on a cooldown</li>
+ *     <li>{@code cooldown_<type>_remaining_formatted} the time remaining on a cooldown, formatted</li>
+ *     <li>{@code cooldown_<type>_active} whether a cooldown is active</li>
+ *     <li>{@code messenger_broker} the message broker in use, or {@code none}</li>
+ *     <li>{@code messenger_ready} whether the message broker is connected</li>
+ *     <li>{@code database_type} the database in use, or {@code none}</li>
+ *     <li>{@code database_pool_<stat>} the connections of all pools which are {@code active}, {@code idle}, {@code pending}, {@code total} or {@code max}</li>
+ *     <li>{@code database_cooldowns_saved} the amount of cooldowns saved in the database for a player</li>
+ * </ul>
+ */
+final class DefaultPlaceholders {
+    private static final Duration COOLDOWN_TTL = Duration.ofMillis(250);
+    private static final Duration STATUS_TTL = Duration.ofSeconds(5);
+    private static final Duration POOL_TTL = Duration.ofSeconds(1);
+    private static final Duration SAVED_TTL = Duration.ofSeconds(30);
+
+    private DefaultPlaceholders() {
+    }
+
+    private enum PoolStat {
+        ACTIVE(PoolMetrics.Snapshot::active),
+        IDLE(PoolMetrics.Snapshot::idle),
+        PENDING(PoolMetrics.Snapshot::pending),
+        TOTAL(PoolMetrics.Snapshot::total),
+        MAX(PoolMetrics.Snapshot::max);
+
+        private final ToIntFunction<PoolMetrics.Snapshot> getter;
+
+        PoolStat(ToIntFunction<PoolMetrics.Snapshot> getter) {
+            this.getter = getter;
+        }
+    }
+
+    static void register(PAPIExpansion expansion) {
+        expansion.register("example", Duration.ofSeconds(1), (player, arguments) -> "placeholder text");
+        expansion.register("example2", Duration.ofSeconds(1), (player, arguments) -> "placeholder text2");
+
+        // Cooldowns, read from memory
+        final PlaceholderArgument<CooldownType> cooldownType = PlaceholderArgument.ofEnum(CooldownType.class);
+        expansion.register("cooldown_<type>_remaining", COOLDOWN_TTL, (player, arguments) -> {
+            if (player == null)
+                return "0";
+
+            return String.valueOf((Cooldowns.remainingMillis(player, arguments.<CooldownType>get(0)) + 999L) / 1000L); // Round up so 0 means ready
+        }, cooldownType);
+        expansion.register("cooldown_<type>_remaining_formatted", COOLDOWN_TTL, (player, arguments) -> {
+            if (player == null)
+                return "";
+
+            return Cooldowns.formatRemaining(player, arguments.<CooldownType>get(0));
+        }, cooldownType);
+        expansion.register("cooldown_<type>_active", COOLDOWN_TTL, (player, arguments) -> String.valueOf(player != null && Cooldowns.has(player, arguments.<CooldownType>get(0))), cooldownType);
+
+        // Messenger
+        expansion.register("messenger_broker", STATUS_TTL, (player, arguments) -> Messenger.isReady() ? Messenger.getType().getName() : "none");
+        expansion.register("messenger_ready", STATUS_TTL, (player, arguments) -> String.valueOf(Messenger.isReady()));
+
+        // Database
+        expansion.register("database_type", STATUS_TTL, (player, arguments) -> DB.isReady() ? DB.getDB().getDriverName() : "none");
+        expansion.register("database_pool_<stat>", POOL_TTL, (player, arguments) -> {
+            if (!DB.isReady())
+                return "0";
+
+            final PoolStat stat = arguments.get(0);
+            return String.valueOf(DB.getHandler().getPoolMetrics().snapshot().stream().mapToInt(stat.getter).sum());
+        }, PlaceholderArgument.ofEnum(PoolStat.class));
+        expansion.register("database_cooldowns_saved", SAVED_TTL, (player, arguments) -> { // Blocks on a query, which is safe as providers run in the background
+            if (player == null || !DB.isReady())
+                return "0";
+
+            return String.valueOf(Queries.Cooldown.load(player).size());
+        });
+    }
+}
@@ -1,19 +1,68 @@
 package io.github.exampleuser.exampleplugin.hook.placeholderapi;
 
 import io.github.exampleuser.exampleplugin.ExamplePlugin;
+import io.github.exampleuser.exampleplugin.utility.Cfg;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.util.UUID;
+
 /**
  * A PlaceholderAPI expansion. Read the docs at <a href="https://wiki.placeholderapi.com/developers/creating-a-placeholderexpansion/">here</a> on how to register your custom placeholders.
+ * <p>
+ * Placeholders are registered with {@link #register(String, Duration, PlaceholderProvider, PlaceholderArgument[])} into a {@link PlaceholderRegistry} and resolved from a {@link PlaceholderCache},
+ * so {@link #onRequest(OfflinePlayer, String)} never blocks the main thread.
  */
 public class PAPIExpansion extends PlaceholderExpansion {
+    static final UUID NO_PLAYER = new UUID(0L, 0L); // Cache key for requests without a player
+
     private final ExamplePlugin plugin;
+    private final PlaceholderCache cache;
+    private final PlaceholderRegistry registry = new PlaceholderRegistry();
 
-    public PAPIExpansion(ExamplePlugin plugin) {
+    PAPIExpansion(ExamplePlugin plugin, PlaceholderCache cache) {
         this.plugin = plugin;
+        this.cache = cache;
+        DefaultPlaceholders.register(this);
+    }
+
+    /**
+     * Register a placeholder. The TTL can be overridden in the config at {@code placeholders.ttl.<pattern>}.
+     * <p>
+     * Patterns may contain arguments written as {@code <name>} segments, for example {@code cooldown_<type>_remaining}, parsed by the argument parsers in order.
+     *
+     * @param pattern   the placeholder pattern, used as {@code %<identifier>_<pattern>%}
+     * @param ttl       how long a value is served before being refreshed in the background
+     * @param provider  the provider resolving the value, called on a background thread
+     * @param arguments the argument parsers, one per argument in the pattern
+     * @throws IllegalArgumentException if the amount of argument parsers does not match the pattern
+     */
+    public void register(String pattern, Duration ttl, PlaceholderProvider provider, PlaceholderArgument<?>... arguments) {
+        final String key = "placeholders.ttl." + pattern;
+        final long ttlMillis = Cfg.get().contains(key) ? Cfg.get().getLong(key) : ttl.toMillis(); // Small values are parsed as integers
+        registry.register(pattern, ttlMillis, (uuid, args) -> provider.resolve(uuid.equals(NO_PLAYER) ? null : Bukkit.getOfflinePlayer(uuid), args), arguments);
+    }
+
+    /**
+     * Unregister a placeholder.
+     *
+     * @param pattern the placeholder pattern
+     */
+    public void unregister(String pattern) {
+        registry.unregister(pattern).forEach(cache::invalidate);
+    }
+
+    /**
+     * Mark the cached values of a placeholder as expired, so they are refreshed on the next request.
+     *
+     * @param pattern the placeholder pattern
+     */
+    public void invalidate(String pattern) {
+        registry.resolvedParams(pattern).forEach(cache::invalidate);
     }
 
     @Override
@@ -41,10 +90,10 @@ public class PAPIExpansion extends PlaceholderExpansion {
 
     @Override
     public @Nullable String onRequest(OfflinePlayer p, @NotNull String params) {
-        return switch (params) {
-            case "example" -> "placeholder text";
-            case "example2" -> "placeholder text2";
-            default -> null;
-        };
+        final PlaceholderRegistry.Resolved placeholder = registry.resolve(params);
+        if (placeholder == null)
+            return null;
+
+        return cache.get(p == null ? NO_PLAYER : p.getUniqueId(), params, placeholder.ttl(), placeholder.loader());
     }
 }
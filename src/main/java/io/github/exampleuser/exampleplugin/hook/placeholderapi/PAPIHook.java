@@ -3,12 +3,28 @@ package io.github.exampleuser.exampleplugin.hook.placeholderapi;
 import io.github.exampleuser.exampleplugin.ExamplePlugin;
 import io.github.exampleuser.exampleplugin.hook.AbstractHook;
 import io.github.exampleuser.exampleplugin.hook.Hook;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A hook to interface with <a href="https://wiki.placeholderapi.com/">PlaceholderAPI</a>.
  */
-public class PAPIHook extends AbstractHook {
+public class PAPIHook extends AbstractHook implements Listener {
+    private static final int REFRESH_THREADS = 2;
+    private static final long IDLE_TTL = 5L; // Minutes a cached value of an offline player is kept without being requested
+
     private PAPIExpansion PAPIExpansion;
+    private @Nullable PlaceholderCache cache;
+    private ExecutorService refreshExecutor;
+    private ScheduledTask sweepTask;
 
     /**
      * Instantiates a new PlaceholderAPI hook.
@@ -24,7 +40,11 @@ public class PAPIHook extends AbstractHook {
         if (!isHookLoaded())
             return;
 
-        PAPIExpansion = new PAPIExpansion(super.getPlugin());
+        refreshExecutor = Executors.newFixedThreadPool(REFRESH_THREADS, Thread.ofPlatform().name("placeholder-refresh-", 0).daemon().factory());
+        cache = new PlaceholderCache(plugin.getSLF4JLogger(), refreshExecutor, System::currentTimeMillis);
+        sweepTask = plugin.getServer().getAsyncScheduler().runAtFixedRate(plugin, task -> cache.sweep(TimeUnit.MINUTES.toMillis(IDLE_TTL)), IDLE_TTL, IDLE_TTL, TimeUnit.MINUTES);
+
+        PAPIExpansion = new PAPIExpansion(super.getPlugin(), cache);
         PAPIExpansion.register();
     }
 
@@ -35,10 +55,31 @@ public class PAPIHook extends AbstractHook {
 
         PAPIExpansion.unregister();
         PAPIExpansion = null;
+        sweepTask.cancel();
+        refreshExecutor.shutdownNow();
+        cache.clear();
+        cache = null;
     }
 
     @Override
     public boolean isHookLoaded() {
         return isPluginPresent(Hook.PAPI.getPluginName()) && isPluginEnabled(Hook.PAPI.getPluginName());
     }
+
+    /**
+     * Get the expansion, used to register placeholders.
+     *
+     * @return the expansion
+     * @implSpec You should check {@link Hook#isLoaded()} before using this method.
+     */
+    public PAPIExpansion getExpansion() {
+        return PAPIExpansion;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent e) {
+        final PlaceholderCache cache = this.cache;
+        if (cache != null)
+            cache.invalidate(e.getPlayer().getUniqueId());
+    }
 }
@@ -0,0 +1,56 @@
+package io.github.exampleuser.exampleplugin.hook.placeholderapi;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+
+/**
+ * Parses an argument of a parameterized placeholder, such as the {@code <type>} in {@code cooldown_<type>_remaining}.
+ * <p>
+ * Arguments are parsed once per distinct placeholder string and cached, so parsers may allocate freely.
+ *
+ * @param <T> the argument type
+ */
+@FunctionalInterface
+public interface PlaceholderArgument<T> {
+    /**
+     * Any text.
+     */
+    PlaceholderArgument<String> STRING = text -> text;
+
+    /**
+     * An integer.
+     */
+    PlaceholderArgument<Integer> INTEGER = text -> {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    };
+
+    /**
+     * Parse an argument.
+     *
+     * @param text the argument text, which may contain underscores
+     * @return the argument, or null if the text is not a valid argument
+     */
+    @Nullable T parse(String text);
+
+    /**
+     * An enum constant, matched by its case-insensitive name.
+     *
+     * @param type the enum class
+     * @param <E>  the enum type
+     * @return the argument parser
+     */
+    static <E extends Enum<E>> PlaceholderArgument<E> ofEnum(Class<E> type) {
+        return text -> {
+            try {
+                return Enum.valueOf(type, text.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        };
+    }
+}
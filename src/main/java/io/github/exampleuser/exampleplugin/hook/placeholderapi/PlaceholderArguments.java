@@ -0,0 +1,36 @@
+package io.github.exampleuser.exampleplugin.hook.placeholderapi;
+
+/**
+ * The parsed arguments of a parameterized placeholder, in the order they appear in its pattern.
+ */
+public final class PlaceholderArguments {
+    static final PlaceholderArguments EMPTY = new PlaceholderArguments(new Object[0]);
+
+    private final Object[] values;
+
+    PlaceholderArguments(Object[] values) {
+        this.values = values;
+    }
+
+    /**
+     * Get an argument.
+     *
+     * @param index the index of the argument in the pattern
+     * @param <T>   the argument type, as parsed by its {@link PlaceholderArgument}
+     * @return the argument
+     * @throws IndexOutOfBoundsException if the placeholder has no argument at the index
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(int index) {
+        return (T) values[index];
+    }
+
+    /**
+     * Get the amount of arguments.
+     *
+     * @return the amount of arguments
+     */
+    public int size() {
+        return values.length;
+    }
+}
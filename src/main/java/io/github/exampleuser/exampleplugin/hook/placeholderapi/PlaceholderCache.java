@@ -0,0 +1,131 @@
+package io.github.exampleuser.exampleplugin.hook.placeholderapi;
+
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches placeholder values per player, so resolving a placeholder is a map read and never blocks the calling thread.
+ * <p>
+ * A value is served until its TTL passes, then served stale while it is refreshed in the background (stale-while-revalidate). Only one refresh per player and placeholder runs at a time.
+ * Until the first refresh completes the placeholder resolves to an empty string.
+ */
+final class PlaceholderCache {
+    private final Logger logger;
+    private final Executor executor;
+    private final LongSupplier clock;
+    private final Map<UUID, Map<String, Entry>> players = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new placeholder cache.
+     *
+     * @param logger   the logger
+     * @param executor the executor refreshing values
+     * @param clock    the clock in epoch milliseconds
+     */
+    PlaceholderCache(Logger logger, Executor executor, LongSupplier clock) {
+        this.logger = logger;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    /**
+     * Get the cached value of a placeholder, refreshing it in the background if it expired.
+     *
+     * @param player the player UUID
+     * @param name   the placeholder name
+     * @param ttl    the milliseconds a value is served before being refreshed
+     * @param loader the loader resolving the value of the placeholder for a player, called on the executor
+     * @return the cached value, or an empty string if no value was loaded yet
+     */
+    @Nullable String get(UUID player, String name, long ttl, Function<UUID, @Nullable String> loader) {
+        Map<String, Entry> entries = players.get(player);
+        if (entries == null)
+            entries = players.computeIfAbsent(player, k -> new ConcurrentHashMap<>());
+
+        Entry entry = entries.get(name);
+        if (entry == null)
+            entry = entries.computeIfAbsent(name, k -> new Entry());
+
+        final long now = clock.getAsLong();
+        entry.accessedAt = now;
+        if (now >= entry.expiresAt && entry.refreshing.compareAndSet(false, true))
+            refresh(player, name, entry, ttl, loader);
+
+        return entry.value;
+    }
+
+    private void refresh(UUID player, String name, Entry entry, long ttl, Function<UUID, @Nullable String> loader) {
+        try {
+            executor.execute(() -> {
+                try {
+                    entry.value = loader.apply(player);
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to refresh placeholder {} for {}, serving the previous value", name, player, e);
+                } finally {
+                    entry.expiresAt = clock.getAsLong() + ttl; // Also backs off failing placeholders until the next expiry
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false); // Shutting down
+        }
+    }
+
+    /**
+     * Remove the cached values of a player.
+     *
+     * @param player the player UUID
+     */
+    void invalidate(UUID player) {
+        players.remove(player);
+    }
+
+    /**
+     * Remove the cached value of a placeholder for every player, so it is refreshed on the next request.
+     *
+     * @param name the placeholder name
+     */
+    void invalidate(String name) {
+        for (Map<String, Entry> entries : players.values()) {
+            final Entry entry = entries.get(name);
+            if (entry != null)
+                entry.expiresAt = 0L;
+        }
+    }
+
+    /**
+     * Remove values which were not requested recently, such as those of offline players shown on leaderboards.
+     *
+     * @param idle the milliseconds since the last request after which a value is removed
+     */
+    void sweep(long idle) {
+        final long cutoff = clock.getAsLong() - idle;
+        players.values().removeIf(entries -> {
+            entries.values().removeIf(entry -> entry.accessedAt < cutoff && !entry.refreshing.get());
+            return entries.isEmpty();
+        });
+    }
+
+    /**
+     * Remove all cached values.
+     */
+    void clear() {
+        players.clear();
+    }
+
+    private static final class Entry {
+        private volatile @Nullable String value = "";
+        private volatile long expiresAt = 0L;
+        private volatile long accessedAt = 0L;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.exampleuser.exampleplugin.hook.placeholderapi;
+
+import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Resolves the value of a placeholder.
+ * <p>
+ * Providers are called on a background thread and may block, for example on database queries. They must not use Bukkit API which is restricted to the main thread.
+ */
+@FunctionalInterface
+public interface PlaceholderProvider {
+    /**
+     * Resolve the value of a placeholder.
+     *
+     * @param player    the player, or null if the placeholder was requested without a player
+     * @param arguments the parsed arguments of a parameterized placeholder
+     * @return the value, or null if it can not be resolved
+     */
+    @Nullable String resolve(@Nullable OfflinePlayer player, PlaceholderArguments arguments);
+}
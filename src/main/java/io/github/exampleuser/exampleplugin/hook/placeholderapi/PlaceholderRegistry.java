@@ -0,0 +1,198 @@
+package io.github.exampleuser.exampleplugin.hook.placeholderapi;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Resolves placeholder strings to registered placeholders through a trie over their {@code _} separated segments.
+ * <p>
+ * Patterns may contain arguments, written as {@code <name>} segments, such as {@code cooldown_<type>_remaining}. An argument can span several segments, so its text may contain underscores.
+ * Literal segments are preferred over arguments. Each distinct placeholder string is parsed once, after which resolving it is a single map read which does not allocate.
+ */
+final class PlaceholderRegistry {
+    private static final int MAX_RESOLVED = 4096; // Placeholder strings come from configs, but stop caching if something generates them
+    private static final Resolved UNKNOWN = new Resolved("", 0L, uuid -> null);
+
+    private final Node root = new Node(); // Guarded by this
+    private final Map<String, Resolved> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * Loads the value of a placeholder.
+     */
+    @FunctionalInterface
+    interface Loader {
+        /**
+         * Load the value of a placeholder.
+         *
+         * @param player    the player UUID, {@link PAPIExpansion#NO_PLAYER} if requested without a player
+         * @param arguments the parsed arguments
+         * @return the value, or null if it can not be resolved
+         */
+        @Nullable String load(UUID player, PlaceholderArguments arguments);
+    }
+
+    /**
+     * A placeholder string resolved to a placeholder and its arguments.
+     *
+     * @param pattern the pattern of the placeholder
+     * @param ttl     the milliseconds a value is served before being refreshed
+     * @param loader  the loader with the parsed arguments applied
+     */
+    record Resolved(String pattern, long ttl, Function<UUID, @Nullable String> loader) {
+    }
+
+    private record Placeholder(String pattern, long ttl, Loader loader) {
+    }
+
+    private record Edge(PlaceholderArgument<?> argument, Node next) {
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private final List<Edge> arguments = new ArrayList<>();
+        private @Nullable Placeholder placeholder;
+    }
+
+    /**
+     * Register a placeholder, replacing any placeholder with the same pattern.
+     *
+     * @param pattern   the pattern, with {@code <name>} segments for arguments
+     * @param ttl       the milliseconds a value is served before being refreshed
+     * @param loader    the loader
+     * @param arguments the argument parsers, one per argument segment in order
+     * @throws IllegalArgumentException if the amount of argument parsers does not match the pattern
+     */
+    synchronized void register(String pattern, long ttl, Loader loader, PlaceholderArgument<?>... arguments) {
+        Node node = root;
+        int argument = 0;
+        for (String segment : pattern.split("_")) {
+            if (isArgument(segment)) {
+                if (argument >= arguments.length)
+                    throw new IllegalArgumentException("Placeholder %s has more arguments than argument parsers".formatted(pattern));
+                node = argumentNode(node, arguments[argument++]);
+            } else {
+                node = node.literals.computeIfAbsent(segment, k -> new Node());
+            }
+        }
+        if (argument != arguments.length)
+            throw new IllegalArgumentException("Placeholder %s has fewer arguments than argument parsers".formatted(pattern));
+
+        node.placeholder = new Placeholder(pattern, ttl, loader);
+        resolved.clear();
+    }
+
+    private static Node argumentNode(Node node, PlaceholderArgument<?> argument) {
+        for (Edge edge : node.arguments) {
+            if (edge.argument() == argument)
+                return edge.next();
+        }
+
+        final Edge edge = new Edge(argument, new Node());
+        node.arguments.add(edge);
+        return edge.next();
+    }
+
+    private static boolean isArgument(String segment) {
+        return segment.length() > 2 && segment.charAt(0) == '<' && segment.charAt(segment.length() - 1) == '>';
+    }
+
+    /**
+     * Unregister a placeholder.
+     *
+     * @param pattern the pattern the placeholder was registered with
+     * @return the placeholder strings which resolved to the placeholder
+     */
+    synchronized List<String> unregister(String pattern) {
+        final List<String> params = resolvedParams(pattern);
+        removePattern(root, pattern);
+        resolved.clear();
+        return params;
+    }
+
+    private static void removePattern(Node node, String pattern) {
+        if (node.placeholder != null && node.placeholder.pattern().equals(pattern))
+            node.placeholder = null;
+
+        node.literals.values().forEach(child -> removePattern(child, pattern));
+        node.arguments.forEach(edge -> removePattern(edge.next(), pattern));
+    }
+
+    /**
+     * Get the placeholder strings which were resolved to a placeholder.
+     *
+     * @param pattern the pattern the placeholder was registered with
+     * @return the placeholder strings
+     */
+    List<String> resolvedParams(String pattern) {
+        final List<String> params = new ArrayList<>();
+        resolved.forEach((key, value) -> {
+            if (value.pattern().equals(pattern))
+                params.add(key);
+        });
+        return params;
+    }
+
+    /**
+     * Resolve a placeholder string.
+     *
+     * @param params the placeholder string, without the expansion identifier
+     * @return the resolved placeholder, or null if no placeholder matches
+     */
+    @Nullable Resolved resolve(String params) {
+        final Resolved cached = resolved.get(params);
+        if (cached != null)
+            return cached == UNKNOWN ? null : cached;
+
+        final Resolved compiled = compile(params);
+        if (resolved.size() < MAX_RESOLVED)
+            resolved.put(params, compiled == null ? UNKNOWN : compiled);
+
+        return compiled;
+    }
+
+    private synchronized @Nullable Resolved compile(String params) {
+        final List<Object> values = new ArrayList<>();
+        final Placeholder placeholder = match(root, params.split("_", -1), 0, values);
+        if (placeholder == null)
+            return null;
+
+        final PlaceholderArguments arguments = values.isEmpty() ? PlaceholderArguments.EMPTY : new PlaceholderArguments(values.toArray());
+        final Loader loader = placeholder.loader();
+        return new Resolved(placeholder.pattern(), placeholder.ttl(), uuid -> loader.load(uuid, arguments));
+    }
+
+    private static @Nullable Placeholder match(Node node, String[] segments, int index, List<Object> values) {
+        if (index == segments.length)
+            return node.placeholder;
+
+        final Node literal = node.literals.get(segments[index]);
+        if (literal != null) {
+            final Placeholder placeholder = match(literal, segments, index + 1, values);
+            if (placeholder != null)
+                return placeholder;
+        }
+
+        for (Edge edge : node.arguments) {
+            for (int end = index + 1; end <= segments.length; end++) { // Try every amount of segments the argument could span
+                final Object value = edge.argument().parse(String.join("_", List.of(segments).subList(index, end)));
+                if (value == null)
+                    continue;
+
+                values.add(value);
+                final Placeholder placeholder = match(edge.next(), segments, end, values);
+                if (placeholder != null)
+                    return placeholder;
+                values.removeLast();
+            }
+        }
+
+        return null;
+    }
+}
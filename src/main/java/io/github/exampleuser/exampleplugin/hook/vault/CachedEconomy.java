@@ -0,0 +1,430 @@
+package io.github.exampleuser.exampleplugin.hook.vault;
+
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.economy.EconomyResponse;
+import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Wraps the Vault {@link Economy}, caching balance reads and batching writes, as many economy plugins do blocking SQL on every call.
+ * <p>
+ * Balances are cached for {@value #BALANCE_TTL} milliseconds, expired balances are served while being refreshed in the background. Balances include queued writes, and are refreshed after our own writes.
+ * Deposits and withdrawals are queued per player and applied after {@value #BATCH_WINDOW} milliseconds in the order they were queued, combining consecutive writes of the same kind into one call.
+ * They are applied on a single economy thread so calls into the economy plugin never run concurrently, first reads wait for that thread too.
+ *
+ * <p>Usage:</p>
+ * <pre>{@code
+ * // Checked every tick, never blocks after the first read
+ * if (economy.getCachedBalance(player).orElse(0) >= price) { ... }
+ *
+ * // Withdraw without blocking the main thread
+ * economy.withdraw(player, price).thenAccept(response -> {
+ *     if (!response.transactionSuccess())
+ *         ...
+ * });
+ * }</pre>
+ */
+public final class CachedEconomy implements AutoCloseable {
+    private static final long BALANCE_TTL = 1_000L;
+    private static final long BATCH_WINDOW = 50L; // One tick
+    private static final long IDLE_TTL = 300_000L;
+    private static final long SHUTDOWN_TIMEOUT = 10_000L;
+    private static final ThreadFactory THREAD_FACTORY = Thread.ofPlatform().name("vault-economy").daemon().factory();
+
+    private final Logger logger;
+    private final Supplier<Economy> economy;
+    private volatile @Nullable Thread economyThread;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> economyThread = THREAD_FACTORY.newThread(runnable));
+    private final Map<UUID, Balance> balances = new ConcurrentHashMap<>();
+    private final Map<UUID, Batch> batches = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new cached economy.
+     *
+     * @param logger  the logger
+     * @param economy the economy provider, looked up on every call so provider changes are picked up
+     */
+    CachedEconomy(Logger logger, Supplier<Economy> economy) {
+        this.logger = logger;
+        this.economy = economy;
+    }
+
+    private static final class Balance {
+        private volatile double value;
+        private volatile boolean loaded = false;
+        private volatile long expiresAt = 0L;
+        private volatile long accessedAt = 0L;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+    }
+
+    private record Write(double amount, boolean deposit, CompletableFuture<EconomyResponse> future) {
+    }
+
+    private static final class Batch {
+        private final OfflinePlayer player;
+        private final List<Write> writes = new ArrayList<>(); // Queued writes, guarded by this
+        private double deposits = 0D; // Not yet applied to the balance, guarded by this
+        private double withdrawals = 0D; // Not yet applied to the balance, guarded by this
+        private boolean scheduled = false; // Guarded by this
+        private boolean removed = false; // Guarded by this
+
+        private Batch(OfflinePlayer player) {
+            this.player = player;
+        }
+    }
+
+    /**
+     * Get the balance of a player, blocking on the economy thread if no balance is cached.
+     *
+     * @param player the player
+     * @return the balance including queued writes
+     */
+    public double getBalance(OfflinePlayer player) {
+        return withPending(player.getUniqueId(), load(player), true);
+    }
+
+    private Balance load(OfflinePlayer player) {
+        final Balance balance = balances.computeIfAbsent(player.getUniqueId(), k -> new Balance());
+        if (!balance.loaded) { // Load before touching, so the first read does not also queue a refresh
+            runOnEconomyThread(() -> {
+                if (balance.loaded)
+                    return; // Refreshed while waiting
+
+                balance.value = economy.get().getBalance(player);
+                balance.loaded = true;
+                balance.expiresAt = System.currentTimeMillis() + BALANCE_TTL;
+            });
+        }
+        return touch(player);
+    }
+
+    /**
+     * Run a task on the economy thread and wait for it, so it never overlaps writes being applied.
+     */
+    private void runOnEconomyThread(Runnable task) {
+        if (Thread.currentThread() == economyThread) {
+            task.run(); // Waiting for our own thread would never finish
+            return;
+        }
+
+        try {
+            CompletableFuture.runAsync(task, executor).join();
+        } catch (RejectedExecutionException e) {
+            task.run(); // Shutting down
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Get the cached balance of a player without blocking, loading it in the background if it is not cached.
+     *
+     * @param player the player
+     * @return the balance including queued writes, or empty if it was not loaded yet
+     */
+    public OptionalDouble getCachedBalance(OfflinePlayer player) {
+        final Balance balance = touch(player);
+        if (!balance.loaded)
+            return OptionalDouble.empty();
+
+        return OptionalDouble.of(withPending(player.getUniqueId(), balance, true));
+    }
+
+    /**
+     * Get the balance of a player without blocking.
+     *
+     * @param player the player
+     * @return a future completing with the balance including queued writes
+     */
+    public CompletableFuture<Double> getBalanceAsync(OfflinePlayer player) {
+        final OptionalDouble cached = getCachedBalance(player);
+        if (cached.isPresent())
+            return CompletableFuture.completedFuture(cached.getAsDouble());
+
+        return CompletableFuture.supplyAsync(() -> getBalance(player), executor);
+    }
+
+    /**
+     * Check if a player has at least an amount, blocking on the economy thread if no balance is cached.
+     * Queued withdrawals are subtracted, queued deposits are not counted until applied.
+     *
+     * @param player the player
+     * @param amount the amount
+     * @return whether the player has the amount
+     */
+    public boolean has(OfflinePlayer player, double amount) {
+        return withPending(player.getUniqueId(), load(player), false) >= amount;
+    }
+
+    /**
+     * Get the cached balance entry of a player, refreshing it in the background if it expired.
+     */
+    private Balance touch(OfflinePlayer player) {
+        final UUID uuid = player.getUniqueId();
+        Balance balance = balances.get(uuid);
+        if (balance == null)
+            balance = balances.computeIfAbsent(uuid, k -> new Balance());
+
+        final long now = System.currentTimeMillis();
+        balance.accessedAt = now;
+        if (now >= balance.expiresAt && balance.refreshing.compareAndSet(false, true))
+            refresh(player, balance);
+
+        return balance;
+    }
+
+    private void refresh(OfflinePlayer player, Balance balance) {
+        try {
+            executor.execute(() -> {
+                try {
+                    balance.value = economy.get().getBalance(player);
+                    balance.loaded = true;
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to refresh the balance of {}", player.getUniqueId(), e);
+                } finally {
+                    balance.expiresAt = System.currentTimeMillis() + BALANCE_TTL;
+                    balance.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            balance.refreshing.set(false); // Shutting down
+        }
+    }
+
+    /**
+     * Get a balance including the writes of a player which were not applied to it yet.
+     *
+     * @param uuid     the player UUID
+     * @param balance  the cached balance
+     * @param deposits whether to include deposits
+     * @return the balance
+     */
+    private double withPending(UUID uuid, Balance balance, boolean deposits) {
+        final Batch batch = batches.get(uuid);
+        if (batch == null)
+            return balance.value;
+
+        synchronized (batch) { // Applied writes update the balance and the pending sums together
+            return balance.value + (deposits ? batch.deposits : 0D) - batch.withdrawals;
+        }
+    }
+
+    /**
+     * Queue a deposit.
+     *
+     * @param player the player
+     * @param amount the amount
+     * @return a future completing with the response once the deposit was applied
+     */
+    public CompletableFuture<EconomyResponse> deposit(OfflinePlayer player, double amount) {
+        return enqueue(player, amount, true);
+    }
+
+    /**
+     * Queue a withdrawal.
+     *
+     * @param player the player
+     * @param amount the amount
+     * @return a future completing with the response once the withdrawal was applied
+     */
+    public CompletableFuture<EconomyResponse> withdraw(OfflinePlayer player, double amount) {
+        return enqueue(player, amount, false);
+    }
+
+    private CompletableFuture<EconomyResponse> enqueue(OfflinePlayer player, double amount, boolean deposit) {
+        if (amount < 0)
+            return CompletableFuture.completedFuture(failure("Cannot %s negative funds".formatted(deposit ? "deposit" : "withdraw")));
+
+        if (executor.isShutdown())
+            return CompletableFuture.completedFuture(failure("The economy is shutting down"));
+
+        final UUID uuid = player.getUniqueId();
+        final Write write = new Write(amount, deposit, new CompletableFuture<>());
+        while (true) {
+            final Batch batch = batches.computeIfAbsent(uuid, k -> new Batch(player));
+            synchronized (batch) {
+                if (batch.removed)
+                    continue; // Raced with the flush removing it, queue into a new batch
+
+                batch.writes.add(write);
+                if (deposit) {
+                    batch.deposits += amount;
+                } else {
+                    batch.withdrawals += amount;
+                }
+                if (!batch.scheduled) {
+                    batch.scheduled = true;
+                    schedule(uuid, batch);
+                }
+                return write.future();
+            }
+        }
+    }
+
+    private void schedule(UUID uuid, Batch batch) {
+        try {
+            executor.schedule(() -> flush(uuid, batch), BATCH_WINDOW, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ignored) {
+            // Closed concurrently, close() fails the writes of batches which were never flushed
+        }
+    }
+
+    private static EconomyResponse failure(String errorMessage) {
+        return new EconomyResponse(0D, 0D, EconomyResponse.ResponseType.FAILURE, errorMessage);
+    }
+
+    private void flush(UUID uuid, Batch batch) {
+        final List<Write> writes;
+        synchronized (batch) {
+            batch.scheduled = false;
+            writes = List.copyOf(batch.writes);
+            batch.writes.clear();
+        }
+
+        try {
+            // Apply runs of the same kind in queue order, so a withdrawal never succeeds because of a deposit queued after it
+            int start = 0;
+            for (int i = 1; i <= writes.size(); i++) {
+                if (i == writes.size() || writes.get(i).deposit() != writes.get(start).deposit()) {
+                    apply(uuid, batch, writes.subList(start, i));
+                    start = i;
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to apply {} economy transactions of {}", writes.size(), uuid, e);
+            for (Write write : writes) {
+                if (write.future().isDone())
+                    continue;
+                settle(uuid, batch, List.of(write), null);
+                write.future().completeExceptionally(e);
+            }
+        } finally {
+            final Balance balance = balances.get(uuid);
+            if (balance != null)
+                balance.expiresAt = 0L; // Refresh on the next read, in case other plugins changed the balance too
+
+            synchronized (batch) {
+                if (batch.writes.isEmpty() && !batch.scheduled) {
+                    batch.removed = true;
+                    batches.remove(uuid, batch);
+                }
+            }
+        }
+    }
+
+    /**
+     * Apply consecutive writes of the same kind as one economy call, falling back to one call per write if a combined withdrawal fails.
+     */
+    private void apply(UUID uuid, Batch batch, List<Write> writes) {
+        final boolean deposit = writes.getFirst().deposit();
+        final double total = writes.stream().mapToDouble(Write::amount).sum();
+        final EconomyResponse response = deposit ? economy.get().depositPlayer(batch.player, total) : economy.get().withdrawPlayer(batch.player, total);
+        if (writes.size() == 1) {
+            settle(uuid, batch, writes, response);
+            writes.getFirst().future().complete(response);
+            return;
+        }
+
+        if (response.transactionSuccess() || deposit) {
+            settle(uuid, batch, writes, response);
+            for (Write write : writes)
+                write.future().complete(new EconomyResponse(write.amount(), response.balance, response.type, response.errorMessage));
+            return;
+        }
+
+        for (Write write : writes) { // The player can not afford every withdrawal, apply them one by one in order
+            final EconomyResponse single = economy.get().withdrawPlayer(batch.player, write.amount());
+            settle(uuid, batch, List.of(write), single);
+            write.future().complete(single);
+        }
+    }
+
+    /**
+     * Stop counting writes as pending, updating the cached balance with the response at the same time.
+     *
+     * @param response the response, or null if the writes failed with an exception
+     */
+    private void settle(UUID uuid, Batch batch, List<Write> writes, @Nullable EconomyResponse response) {
+        synchronized (batch) {
+            final Balance balance = balances.get(uuid);
+            if (balance != null && response != null && response.transactionSuccess())
+                balance.value = response.balance;
+
+            for (Write write : writes) {
+                if (write.deposit()) {
+                    batch.deposits -= write.amount();
+                } else {
+                    batch.withdrawals -= write.amount();
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove the cached balance of a player, such as when the player leaves.
+     *
+     * @param uuid the player UUID
+     */
+    public void invalidate(UUID uuid) {
+        balances.remove(uuid);
+    }
+
+    /**
+     * Remove balances which were not read recently.
+     */
+    void sweep() {
+        final long cutoff = System.currentTimeMillis() - IDLE_TTL;
+        balances.values().removeIf(balance -> balance.accessedAt < cutoff && !balance.refreshing.get());
+    }
+
+    /**
+     * Remove all cached balances, such as when the economy provider changed.
+     */
+    void clear() {
+        balances.clear();
+    }
+
+    /**
+     * Apply all queued writes, waiting at most {@value #SHUTDOWN_TIMEOUT} milliseconds.
+     */
+    @Override
+    public void close() {
+        final int pending = batches.size();
+        executor.shutdown(); // Queued batches still run after shutdown
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS))
+                logger.warn("Economy transactions of {} players did not finish within {}ms", batches.size(), SHUTDOWN_TIMEOUT);
+            else if (pending > 0)
+                logger.info("Applied the queued economy transactions of {} players", pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (Batch batch : batches.values()) {
+            synchronized (batch) {
+                batch.writes.forEach(write -> write.future().complete(failure("The economy is shutting down")));
+            }
+        }
+        batches.clear();
+        balances.clear();
+    }
+}
@@ -0,0 +1,285 @@
+package io.github.exampleuser.exampleplugin.hook.vault;
+
+import net.milkbowl.vault.chat.Chat;
+import net.milkbowl.vault.permission.Permission;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Caches the groups, prefix, suffix and permission checks of players from the Vault {@link Permission} and {@link Chat} providers, as their lookups can be expensive, especially for offline players.
+ * <p>
+ * Lookups are cached for {@value #TTL} milliseconds, expired lookups are served while being refreshed in the background. Players are warmed up on pre-login, so chat formatting and GUIs never wait on the permissions plugin.
+ * At most {@value #MAX_PLAYERS} players are cached, evicting the least recently used. Permission checks of online players are not cached, as Bukkit already resolves them from memory.
+ * Lookups are global, not per world.
+ * <p>
+ * Vault has no event for permission changes, so changes made through the permission plugin are only seen once the lookup is refreshed, up to {@value #TTL} milliseconds later.
+ * Call {@link #invalidate(UUID)} after changing the groups of a player, or {@link #invalidateAll()} after bulk changes, to see them on the next lookup.
+ */
+public final class CachedPermissions implements AutoCloseable {
+    private static final long TTL = 60_000L;
+    private static final long IDLE_TTL = 300_000L;
+    static final int MAX_PLAYERS = 1_000;
+    private static final int MAX_PERMISSIONS = 128; // Cached permission checks per offline player
+
+    private final Logger logger;
+    private final Supplier<@Nullable Permission> permission;
+    private final Supplier<@Nullable Chat> chat;
+    private final LongSupplier clock;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("vault-permissions").daemon().factory());
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new permission cache.
+     *
+     * @param logger     the logger
+     * @param permission the permission provider, or null if none is loaded
+     * @param chat       the chat provider, or null if none is loaded
+     * @param clock      the clock in epoch milliseconds
+     */
+    CachedPermissions(Logger logger, Supplier<@Nullable Permission> permission, Supplier<@Nullable Chat> chat, LongSupplier clock) {
+        this.logger = logger;
+        this.permission = permission;
+        this.chat = chat;
+        this.clock = clock;
+    }
+
+    private static final class Entry {
+        private volatile @Nullable String primaryGroup;
+        private volatile List<String> groups = List.of();
+        private volatile @Nullable String prefix;
+        private volatile @Nullable String suffix;
+        private final Map<String, Boolean> permissions = new ConcurrentHashMap<>();
+        private volatile boolean loaded = false; // Guarded by this for writes
+        private volatile long expiresAt = 0L;
+        private volatile long accessedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(long now) {
+            this.accessedAt = now; // Set on creation, so the newest entry is never evicted first
+        }
+    }
+
+    /**
+     * Load the lookups of a player, so they are cached once the player joins. Blocks the calling thread.
+     *
+     * @param player the player
+     */
+    public void warm(OfflinePlayer player) {
+        entry(player);
+    }
+
+    /**
+     * Check if a player has a permission.
+     *
+     * @param player     the player
+     * @param permission the permission node
+     * @return whether the player has the permission
+     */
+    public boolean has(OfflinePlayer player, String permission) {
+        final Player online = player.getPlayer();
+        if (online != null)
+            return online.hasPermission(permission);
+
+        final Entry entry = entry(player);
+        final Boolean cached = entry.permissions.get(permission);
+        if (cached != null)
+            return cached;
+
+        final Permission provider = this.permission.get();
+        final boolean has = provider != null && provider.playerHas((String) null, player, permission);
+        if (entry.permissions.size() >= MAX_PERMISSIONS)
+            entry.permissions.clear();
+        entry.permissions.put(permission, has);
+        return has;
+    }
+
+    /**
+     * Get the primary group of a player.
+     *
+     * @param player the player
+     * @return the primary group, or null if the player has none or no permission plugin supports groups
+     */
+    public @Nullable String getPrimaryGroup(OfflinePlayer player) {
+        return entry(player).primaryGroup;
+    }
+
+    /**
+     * Get the groups of a player.
+     *
+     * @param player the player
+     * @return an unmodifiable list of groups
+     */
+    public List<String> getGroups(OfflinePlayer player) {
+        return entry(player).groups;
+    }
+
+    /**
+     * Check if a player is in a group.
+     *
+     * @param player the player
+     * @param group  the group, case-insensitive
+     * @return whether the player is in the group
+     */
+    public boolean inGroup(OfflinePlayer player, String group) {
+        for (String g : entry(player).groups) {
+            if (g.equalsIgnoreCase(group))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the chat prefix of a player.
+     *
+     * @param player the player
+     * @return the prefix, or null if the player has none or no chat plugin is loaded
+     */
+    public @Nullable String getPrefix(OfflinePlayer player) {
+        return entry(player).prefix;
+    }
+
+    /**
+     * Get the chat suffix of a player.
+     *
+     * @param player the player
+     * @return the suffix, or null if the player has none or no chat plugin is loaded
+     */
+    public @Nullable String getSuffix(OfflinePlayer player) {
+        return entry(player).suffix;
+    }
+
+    /**
+     * Get the cached entry of a player, loading it on the calling thread if it is not cached or refreshing it in the background if it expired.
+     */
+    private Entry entry(OfflinePlayer player) {
+        final UUID uuid = player.getUniqueId();
+        Entry entry = entries.get(uuid);
+        if (entry == null) {
+            if (entries.size() >= MAX_PLAYERS)
+                evict(); // Before inserting, so the new entry is not a candidate
+            entry = entries.computeIfAbsent(uuid, k -> new Entry(clock.getAsLong()));
+        }
+
+        final long now = clock.getAsLong();
+        entry.accessedAt = now;
+        if (!entry.loaded) {
+            synchronized (entry) {
+                if (!entry.loaded) // Concurrent first lookups wait for one load
+                    load(player, entry);
+            }
+        } else if (now >= entry.expiresAt && entry.refreshing.compareAndSet(false, true)) {
+            refresh(player, entry);
+        }
+
+        return entry;
+    }
+
+    private void load(OfflinePlayer player, Entry entry) {
+        try {
+            final Permission permission = this.permission.get();
+            if (permission != null && permission.hasGroupSupport()) {
+                entry.primaryGroup = permission.getPrimaryGroup((String) null, player);
+                final String[] groups = permission.getPlayerGroups((String) null, player);
+                entry.groups = groups == null ? List.of() : Collections.unmodifiableList(Arrays.asList(groups));
+            }
+
+            final Chat chat = this.chat.get();
+            if (chat != null) {
+                entry.prefix = chat.getPlayerPrefix((String) null, player);
+                entry.suffix = chat.getPlayerSuffix((String) null, player);
+            }
+
+            if (permission != null) { // Recheck previously checked permissions of offline players
+                for (String node : entry.permissions.keySet())
+                    entry.permissions.put(node, permission.playerHas((String) null, player, node));
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to look up the permissions of {}", player.getUniqueId(), e);
+        } finally {
+            entry.expiresAt = clock.getAsLong() + TTL;
+            entry.loaded = true;
+        }
+    }
+
+    private void refresh(OfflinePlayer player, Entry entry) {
+        try {
+            executor.execute(() -> {
+                try {
+                    load(player, entry);
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false); // Shutting down
+        }
+    }
+
+    /**
+     * Evict the least recently used tenth of the cached players.
+     */
+    private void evict() {
+        entries.entrySet().stream()
+            .sorted(Comparator.comparingLong(e -> e.getValue().accessedAt))
+            .limit(Math.max(1, MAX_PLAYERS / 10))
+            .map(Map.Entry::getKey)
+            .toList()
+            .forEach(entries::remove);
+    }
+
+    /**
+     * Remove the cached lookups of a player, such as when the player leaves or their groups were changed.
+     *
+     * @param uuid the player UUID
+     */
+    public void invalidate(UUID uuid) {
+        entries.remove(uuid);
+    }
+
+    /**
+     * Check if the lookups of a player are cached.
+     *
+     * @param uuid the player UUID
+     * @return whether the player is cached
+     */
+    boolean isCached(UUID uuid) {
+        return entries.containsKey(uuid);
+    }
+
+    /**
+     * Remove players which were not looked up recently.
+     */
+    void sweep() {
+        final long cutoff = clock.getAsLong() - IDLE_TTL;
+        entries.values().removeIf(entry -> entry.accessedAt < cutoff && !entry.refreshing.get());
+    }
+
+    /**
+     * Remove the cached lookups of all players, such as after changing the groups of many players or when a provider changed.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        entries.clear();
+    }
+}
@@ -3,16 +3,22 @@ package io.github.exampleuser.exampleplugin.hook.vault;
 import io.github.exampleuser.exampleplugin.ExamplePlugin;
 import io.github.exampleuser.exampleplugin.hook.AbstractHook;
 import io.github.exampleuser.exampleplugin.hook.Hook;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 import net.milkbowl.vault.chat.Chat;
 import net.milkbowl.vault.economy.Economy;
 import net.milkbowl.vault.permission.Permission;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.server.ServiceRegisterEvent;
 import org.bukkit.plugin.RegisteredServiceProvider;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * A hook to interface with the <a href="https://github.com/MilkBowl/VaultAPI">Vault API</a>.
  */
@@ -20,6 +26,9 @@ public class VaultHook extends AbstractHook implements Listener {
     private @Nullable RegisteredServiceProvider<Economy> rspEconomy;
     private @Nullable RegisteredServiceProvider<Permission> rspPermissions;
     private @Nullable RegisteredServiceProvider<Chat> rspChat;
+    private @Nullable CachedEconomy cachedEconomy;
+    private @Nullable CachedPermissions cachedPermissions;
+    private @Nullable ScheduledTask sweepTask;
 
     /**
      * Instantiates a new Vault hook.
@@ -37,12 +46,29 @@ public class VaultHook extends AbstractHook implements Listener {
         setEconomy(getPlugin().getServer().getServicesManager().getRegistration(Economy.class));
         setPermissions(getPlugin().getServer().getServicesManager().getRegistration(Permission.class));
         setChat(getPlugin().getServer().getServicesManager().getRegistration(Chat.class));
+
+        cachedEconomy = new CachedEconomy(plugin.getSLF4JLogger(), this::getEconomy);
+        cachedPermissions = new CachedPermissions(plugin.getSLF4JLogger(), () -> isPermissionsLoaded() ? getPermissions() : null, () -> isChatLoaded() ? getChat() : null, System::currentTimeMillis);
+        sweepTask = plugin.getServer().getAsyncScheduler().runAtFixedRate(plugin, task -> {
+            cachedEconomy.sweep();
+            cachedPermissions.sweep();
+        }, 1L, 1L, TimeUnit.MINUTES);
     }
 
     @Override
     public void onDisable(ExamplePlugin plugin) {
         if (!isHookLoaded()) return;
 
+        if (sweepTask != null)
+            sweepTask.cancel();
+        if (cachedEconomy != null)
+            cachedEconomy.close(); // Apply queued transactions before the economy plugin disables
+        if (cachedPermissions != null)
+            cachedPermissions.close();
+        sweepTask = null;
+        cachedEconomy = null;
+        cachedPermissions = null;
+
         setEconomy(null);
         setPermissions(null);
         setChat(null);
@@ -78,6 +104,17 @@ public class VaultHook extends AbstractHook implements Listener {
         return rspEconomy.getProvider();
     }
 
+    /**
+     * Gets the cached vault economy, which caches balances and batches transactions off the main thread. Should only be used after {@link #isEconomyLoaded()}.
+     *
+     * @return the cached economy
+     */
+    public CachedEconomy getCachedEconomy() {
+        if (cachedEconomy == null)
+            throw new NullPointerException("The plugin tried to use Vault without it being loaded. Use the VaultHook#isHookLoaded method before using vault methods.");
+        return cachedEconomy;
+    }
+
     /**
      * Sets the vault economy service provider.
      *
@@ -86,6 +123,8 @@ public class VaultHook extends AbstractHook implements Listener {
     @ApiStatus.Internal
     private void setEconomy(@Nullable RegisteredServiceProvider<Economy> rsp) {
         this.rspEconomy = rsp;
+        if (cachedEconomy != null)
+            cachedEconomy.clear(); // Balances of the previous provider
     }
 
     /**
@@ -108,6 +147,17 @@ public class VaultHook extends AbstractHook implements Listener {
         return rspPermissions.getProvider();
     }
 
+    /**
+     * Gets the cached vault permissions, which caches the groups, prefix, suffix and permission checks of players. Works with or without a permissions and chat plugin loaded.
+     *
+     * @return the cached permissions
+     */
+    public CachedPermissions getCachedPermissions() {
+        if (cachedPermissions == null)
+            throw new NullPointerException("The plugin tried to use Vault without it being loaded. Use the VaultHook#isHookLoaded method before using vault methods.");
+        return cachedPermissions;
+    }
+
     /**
      * Sets the vault permissions service provider.
      *
@@ -116,6 +166,8 @@ public class VaultHook extends AbstractHook implements Listener {
     @ApiStatus.Internal
     private void setPermissions(@Nullable RegisteredServiceProvider<Permission> rsp) {
         this.rspPermissions = rsp;
+        if (cachedPermissions != null)
+            cachedPermissions.invalidateAll(); // Groups of the previous provider
     }
 
     /**
@@ -146,6 +198,8 @@ public class VaultHook extends AbstractHook implements Listener {
     @ApiStatus.Internal
     private void setChat(@Nullable RegisteredServiceProvider<Chat> rsp) {
         this.rspChat = rsp;
+        if (cachedPermissions != null)
+            cachedPermissions.invalidateAll(); // Prefixes of the previous provider
     }
 
     /**
@@ -166,4 +220,31 @@ public class VaultHook extends AbstractHook implements Listener {
             }
         }
     }
+
+    /**
+     * Warm up the cached permissions of players logging in, on the async login thread.
+     *
+     * @param e event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPlayerPreLogin(AsyncPlayerPreLoginEvent e) {
+        if (e.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED || cachedPermissions == null)
+            return;
+
+        cachedPermissions.invalidate(e.getUniqueId()); // Groups may have changed while offline
+        cachedPermissions.warm(getPlugin().getServer().getOfflinePlayer(e.getUniqueId()));
+    }
+
+    /**
+     * Drop the cached state of players leaving the server.
+     *
+     * @param e event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent e) {
+        if (cachedEconomy != null)
+            cachedEconomy.invalidate(e.getPlayer().getUniqueId());
+        if (cachedPermissions != null)
+            cachedPermissions.invalidate(e.getPlayer().getUniqueId());
+    }
 }
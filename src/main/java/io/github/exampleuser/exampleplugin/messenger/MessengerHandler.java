@@ -3,6 +3,8 @@ package io.github.exampleuser.exampleplugin.messenger;
 import io.github.exampleuser.exampleplugin.AbstractService;
 import io.github.exampleuser.exampleplugin.ExamplePlugin;
 import io.github.exampleuser.exampleplugin.Reloadable;
+import io.github.exampleuser.exampleplugin.config.ConfigHandler;
+import io.github.exampleuser.exampleplugin.database.handler.DatabaseHandler;
 import io.github.exampleuser.exampleplugin.messenger.adapter.receiver.BukkitReceiverAdapter;
 import io.github.exampleuser.exampleplugin.messenger.adapter.receiver.ReceiverAdapter;
 import io.github.exampleuser.exampleplugin.messenger.adapter.task.BukkitTaskAdapter;
@@ -27,6 +29,7 @@ import org.slf4j.Logger;
 
 import java.io.IOException;
 import java.security.NoSuchAlgorithmException;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -92,6 +95,21 @@ public class MessengerHandler extends AbstractService implements Reloadable, Mes
             logger.warn("[SYNC] Error while initializing message broker. Functionality will be limited.");
     }
 
+    @Override
+    public Set<Class<? extends Reloadable>> getDependencies(ExamplePlugin plugin) {
+        final MessengerConfig config = this.config != null ? this.config : MessengerConfig.fromConfig(plugin.getConfigHandler().getDatabaseConfig()); // Loaded in onLoad, which runs after this
+
+        if (config.enabled() && config.brokerType().equals(BrokerType.DATABASE))
+            return Set.of(ConfigHandler.class, DatabaseHandler.class); // The database broker needs the connection pool, other brokers connect while the database starts
+
+        return Set.of(ConfigHandler.class);
+    }
+
+    @Override
+    public boolean isConcurrentLoad() {
+        return true;
+    }
+
     @Override
     public void onEnable(ExamplePlugin plugin) {
         if (config == null || !config.enabled())
@@ -121,7 +139,7 @@ public class MessengerHandler extends AbstractService implements Reloadable, Mes
             default -> new DatabaseBroker(this, implementationName, taskAdapter, taskAdapter);
         };
 
-        if (config.brokerType().equals(BrokerType.DATABASE) && !DB.isReady())
+        if (config.brokerType().equals(BrokerType.DATABASE) && !DB.awaitReady())
             throw new MessengerInitializationException("Database is required for this message broker but the database has failed to initialize!");
 
         if (broker == null)
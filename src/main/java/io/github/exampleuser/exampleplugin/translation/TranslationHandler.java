@@ -8,6 +8,7 @@ import io.github.milkdrinkers.wordweaver.Translation;
 import io.github.milkdrinkers.wordweaver.config.TranslationConfig;
 
 import java.nio.file.Path;
+import java.util.Set;
 
 /**
  * A wrapper handler class for handling WordWeaver lifecycle.
@@ -24,6 +25,11 @@ public class TranslationHandler implements Reloadable {
 
     }
 
+    @Override
+    public Set<Class<? extends Reloadable>> getDependencies(ExamplePlugin plugin) {
+        return Set.of(ConfigHandler.class);
+    }
+
     @Override
     public void onEnable(ExamplePlugin plugin) {
         Translation.initialize(TranslationConfig.builder() // Initialize word-weaver
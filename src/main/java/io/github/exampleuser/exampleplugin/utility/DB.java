@@ -3,6 +3,8 @@ package io.github.exampleuser.exampleplugin.utility;
 import io.github.exampleuser.exampleplugin.database.handler.DatabaseHandler;
 import io.github.exampleuser.exampleplugin.database.handler.DatabaseType;
 import io.github.exampleuser.exampleplugin.database.jooq.JooqContext;
+import io.github.exampleuser.exampleplugin.database.jooq.QueryTemplate;
+import io.github.exampleuser.exampleplugin.database.pool.WriteQueue;
 import org.jetbrains.annotations.NotNull;
 import org.jooq.DSLContext;
 
@@ -51,6 +53,19 @@ public final class DB {
         return handler.isReady();
     }
 
+    /**
+     * Convenience method for {@link DatabaseHandler#awaitMigration()}, blocks until the database has finished migrating
+     *
+     * @return if the database is ready
+     */
+    public static boolean awaitReady() {
+        DatabaseHandler handler = getInstance().getDatabaseHandler();
+        if (handler == null)
+            return false;
+
+        return handler.awaitMigration();
+    }
+
     /**
      * Convenience method for {@link DatabaseHandler#getConnection} to getConnection {@link Connection}
      *
@@ -62,6 +77,49 @@ public final class DB {
         return getInstance().getDatabaseHandler().getConnection();
     }
 
+    /**
+     * Convenience method for {@link DatabaseHandler#getConnection} to get a {@link Connection} to the primary database for writes
+     *
+     * @return the connection
+     * @throws SQLException the sql exception
+     */
+    @NotNull
+    public static Connection write() throws SQLException {
+        return getInstance().getDatabaseHandler().getConnection();
+    }
+
+    /**
+     * Convenience method for {@link DatabaseHandler#getReadConnection} to get a {@link Connection} to a read replica, or the primary database if none are available
+     *
+     * @return the connection
+     * @throws SQLException the sql exception
+     */
+    @NotNull
+    public static Connection read() throws SQLException {
+        return getInstance().getDatabaseHandler().getReadConnection();
+    }
+
+    /**
+     * Convenience method for {@link DatabaseHandler#getPrimaryReadConnection} to get a {@link Connection} for reads which must observe every committed write
+     *
+     * @return the connection
+     * @throws SQLException the sql exception
+     */
+    @NotNull
+    public static Connection readPrimary() throws SQLException {
+        return getInstance().getDatabaseHandler().getPrimaryReadConnection();
+    }
+
+    /**
+     * Convenience method for {@link DatabaseHandler#getWriteQueue()} to queue writes without blocking on the database
+     *
+     * @return the write queue
+     */
+    @NotNull
+    public static WriteQueue getWriteQueue() {
+        return getInstance().getDatabaseHandler().getWriteQueue();
+    }
+
     /**
      * Convenience method for {@link JooqContext#createContext(Connection)} to getConnection {@link DSLContext}
      *
@@ -73,6 +131,17 @@ public final class DB {
         return getInstance().getDatabaseHandler().getJooqContext().createContext(con);
     }
 
+    /**
+     * Convenience method for {@link JooqContext#render(QueryTemplate)} to get the sql of a {@link QueryTemplate}
+     *
+     * @param template the query template
+     * @return the sql
+     */
+    @NotNull
+    public static String render(QueryTemplate template) {
+        return getInstance().getDatabaseHandler().getJooqContext().render(template);
+    }
+
     /**
      * Convenience method for accessing the {@link DatabaseHandler} instance
      *
@@ -0,0 +1,6 @@
+-- Table storing a fingerprint of the last successfully applied migrations, used to skip migrating when nothing changed
+CREATE TABLE IF NOT EXISTS "${tablePrefix}migration_state" (
+    "id" INT NOT NULL,
+    "fingerprint" VARCHAR(64) NOT NULL,
+    PRIMARY KEY ("id")
+);
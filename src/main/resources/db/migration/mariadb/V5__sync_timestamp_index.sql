@@ -0,0 +1,3 @@
+-- Lets the messaging service cleanup delete expired messages without scanning the table
+-- Polling (id > ? AND timestamp >= ?) is served by the primary key, cooldown lookups by uuid by the leftmost column of the unique ("uuid", "cooldown_type") key
+CREATE INDEX "${tablePrefix}sync_timestamp" ON "${tablePrefix}sync" ("timestamp");
@@ -0,0 +1,6 @@
+-- Table for storing player cooldowns packed into a single row per player, used instead of the cooldowns table when packed cooldowns are enabled
+CREATE TABLE IF NOT EXISTS "${tablePrefix}cooldowns_packed" (
+    "uuid" BLOB NOT NULL,
+    "cooldowns" BLOB NOT NULL,
+    PRIMARY KEY ("uuid")
+);
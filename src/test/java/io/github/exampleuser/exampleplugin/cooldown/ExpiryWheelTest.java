@@ -0,0 +1,73 @@
+package io.github.exampleuser.exampleplugin.cooldown;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Contains the cooldown expiry test cases.
+ */
+@Tag("cooldown")
+class ExpiryWheelTest {
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("Expires Every Level On Time")
+    void testExpiresOnTime() {
+        final ExpiryWheel wheel = new ExpiryWheel(START);
+        final Random random = new Random(0);
+        final List<Long> expiries = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            final long expiry = START + (long) Math.pow(10, random.nextDouble(0, 8.5)); // Milliseconds up to ~3.6 days, spanning every level
+            expiries.add(expiry);
+            wheel.schedule(new ExpiryWheel.Entry(UUID.randomUUID(), CooldownType.EXAMPLE_COOLDOWN, expiry));
+        }
+
+        final long end = START + Duration.ofDays(4).toMillis();
+        int expired = 0;
+        for (long now = START; now <= end; now += ExpiryWheel.TICK * 97) { // Advance by irregular steps covering several ticks
+            for (ExpiryWheel.Entry entry : wheel.advance(now)) {
+                Assertions.assertTrue(entry.expiry() <= now, "Entry expired early");
+                Assertions.assertTrue(entry.expiry() > now - ExpiryWheel.TICK * 98, "Entry expired late");
+                expired++;
+            }
+        }
+        Assertions.assertEquals(expiries.size(), expired);
+    }
+
+    @Test
+    @DisplayName("Reschedules Beyond The Wheel")
+    void testBeyondWheel() {
+        final ExpiryWheel wheel = new ExpiryWheel(START);
+        final long expiry = START + Duration.ofDays(30).toMillis();
+        wheel.schedule(new ExpiryWheel.Entry(UUID.randomUUID(), CooldownType.EXAMPLE_COOLDOWN, expiry));
+        wheel.schedule(new ExpiryWheel.Entry(UUID.randomUUID(), CooldownType.EXAMPLE_COOLDOWN, START - 1));
+
+        Assertions.assertEquals(1, wheel.advance(START).size()); // Already expired entries expire immediately
+        Assertions.assertTrue(wheel.advance(expiry - ExpiryWheel.TICK).isEmpty());
+        Assertions.assertEquals(1, wheel.advance(expiry + ExpiryWheel.TICK).size());
+    }
+
+    @Test
+    @DisplayName("Skips Replaced Cooldowns")
+    void testSkipsReplaced() {
+        final UUID uuid = UUID.randomUUID();
+        Cooldowns.reset();
+        Cooldowns.setMillis(uuid, CooldownType.EXAMPLE_COOLDOWN, -Duration.ofSeconds(1).toMillis());
+        Cooldowns.setMillis(uuid, CooldownType.EXAMPLE_COOLDOWN, Duration.ofMinutes(5).toMillis());
+        Assertions.assertTrue(Cooldowns.expire().isEmpty());
+        Assertions.assertTrue(Cooldowns.has(uuid, CooldownType.EXAMPLE_COOLDOWN));
+
+        Cooldowns.setMillis(uuid, CooldownType.EXAMPLE_COOLDOWN, -Duration.ofSeconds(1).toMillis());
+        Assertions.assertEquals(1, Cooldowns.expire().size());
+        Assertions.assertEquals(0L, Cooldowns.getMillis(uuid, CooldownType.EXAMPLE_COOLDOWN));
+        Cooldowns.reset();
+    }
+}
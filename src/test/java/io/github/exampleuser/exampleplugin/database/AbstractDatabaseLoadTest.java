@@ -0,0 +1,297 @@
+package io.github.exampleuser.exampleplugin.database;
+
+import io.github.exampleuser.exampleplugin.cooldown.CooldownChange;
+import io.github.exampleuser.exampleplugin.cooldown.CooldownType;
+import io.github.exampleuser.exampleplugin.database.config.DatabaseConfig;
+import io.github.exampleuser.exampleplugin.database.handler.DatabaseHandler;
+import io.github.exampleuser.exampleplugin.database.metrics.LatencyHistogram;
+import io.github.exampleuser.exampleplugin.messenger.message.IncomingMessage;
+import io.github.exampleuser.exampleplugin.messenger.message.Message;
+import io.github.exampleuser.exampleplugin.utility.DB;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures throughput and latency of queries under concurrent load, reporting the results of every workload once all have run.
+ * <p>
+ * The load is configured with system properties, see the {@code loadTest} Gradle task:
+ * <ul>
+ *     <li>{@code loadtest.pool-size} the connection pool size, default {@value #DEFAULT_POOL_SIZE}</li>
+ *     <li>{@code loadtest.threads} the amount of writer and reader threads each, default {@value #DEFAULT_THREADS}</li>
+ *     <li>{@code loadtest.operations} the amount of operations per thread, default {@value #DEFAULT_OPERATIONS}</li>
+ *     <li>{@code loadtest.report-dir} a directory to write the results to as CSV, not written if unset</li>
+ * </ul>
+ */
+@Tag("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+abstract class AbstractDatabaseLoadTest {
+    private static final int DEFAULT_POOL_SIZE = 10;
+    private static final int DEFAULT_THREADS = 4;
+    private static final int DEFAULT_OPERATIONS = 250;
+    private static final CooldownType TYPE = CooldownType.EXAMPLE_COOLDOWN;
+
+    private static @TempDir Path TEMP_DIR;
+
+    private final DatabaseTestParams testConfig;
+    private final int poolSize = Integer.getInteger("loadtest.pool-size", DEFAULT_POOL_SIZE);
+    private final int threads = Integer.getInteger("loadtest.threads", DEFAULT_THREADS);
+    private final int operations = Integer.getInteger("loadtest.operations", DEFAULT_OPERATIONS);
+    private final List<Result> results = new CopyOnWriteArrayList<>();
+    private final List<UUID> players = new ArrayList<>();
+    public Logger logger = LoggerFactory.getLogger("Database Load");
+
+    AbstractDatabaseLoadTest(DatabaseTestParams testConfig) {
+        this.testConfig = testConfig;
+    }
+
+    @BeforeAll
+    @DisplayName("Initialize connection pool")
+    void beforeAllTests() throws Exception {
+        final Path path = Files.createDirectories(TEMP_DIR.resolve(getClass().getSimpleName()));
+        final DatabaseConfig databaseConfig = DatabaseConfig.builder()
+            .withDatabaseType(testConfig.jdbcPrefix())
+            .withPath(path)
+            .withTablePrefix(testConfig.tablePrefix())
+            .withMaxPoolSize(poolSize)
+            .withMinIdle(poolSize)
+            .withPackedCooldowns(testConfig.packedCooldowns())
+            .build();
+        Assertions.assertEquals(testConfig.requiredDatabaseType(), databaseConfig.getDatabaseType());
+
+        DB.init(
+            DatabaseHandler.builder()
+                .withConfig(databaseConfig)
+                .withLogger(logger)
+                .build()
+        );
+        DB.getHandler().doStartup();
+        DB.getHandler().migrate();
+
+        // Seed players with saved cooldowns for the read workloads
+        final List<CooldownChange> seed = new ArrayList<>();
+        for (int i = 0; i < threads * operations; i++) {
+            final UUID uuid = UUID.randomUUID();
+            players.add(uuid);
+            seed.add(change(uuid));
+        }
+        Assertions.assertTrue(Queries.Cooldown.save(seed));
+    }
+
+    @AfterAll
+    void afterAllTests() throws IOException {
+        DB.getHandler().doShutdown();
+        report();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Cooldown Save")
+    void testCooldownSave() throws Exception {
+        run("Cooldown Save", new Workload("writers", threads, () -> save(UUID.randomUUID())));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Cooldown Load")
+    void testCooldownLoad() throws Exception {
+        run("Cooldown Load", new Workload("readers", threads, () -> Queries.Cooldown.load(randomPlayer())));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Cooldown Save & Load")
+    void testCooldownMixed() throws Exception {
+        run("Cooldown Save & Load",
+            new Workload("writers", threads, () -> save(randomPlayer())),
+            new Workload("readers", threads, () -> Queries.Cooldown.load(randomPlayer()))
+        );
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("Sync Send & Receive")
+    void testSyncSendReceive() throws Exception {
+        final AtomicInteger latestSyncId = new AtomicInteger(Queries.Sync.fetchLatestMessageId().orElse(-1));
+        run("Sync Send & Receive",
+            new Workload("senders", threads, () -> Queries.Sync.send(Message.builder().channelId("loadtest").payload((Object) "payload").build()).orElseThrow()),
+            new Workload("receivers", threads, () -> { // Advance like the messenger's poller, only receiving messages newer than the last received one
+                final Map<Integer, IncomingMessage<?, ?>> messages = Queries.Sync.receive(latestSyncId.get(), 60_000L);
+                messages.keySet().stream().max(Integer::compare).ifPresent(id -> latestSyncId.accumulateAndGet(id, Math::max));
+            })
+        );
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Batch")
+    void testBatch() throws Exception {
+        run("Batch", new Workload("writers", threads, Queries::saveAll));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("Transaction")
+    void testTransaction() throws Exception {
+        run("Transaction", new Workload("writers", threads, Queries::saveAllTransaction));
+    }
+
+    private CooldownChange change(UUID uuid) {
+        return new CooldownChange(uuid, TYPE, System.currentTimeMillis() + Duration.ofMinutes(5).toMillis());
+    }
+
+    private void save(UUID uuid) {
+        if (!Queries.Cooldown.save(List.of(change(uuid)))) // Failed saves are logged and reported as false, count them as errors
+            throw new IllegalStateException("Failed to save the cooldowns of %s".formatted(uuid));
+    }
+
+    private UUID randomPlayer() {
+        return players.get(ThreadLocalRandom.current().nextInt(players.size()));
+    }
+
+    /**
+     * A group of threads repeatedly running the same operation.
+     *
+     * @param name      the name of the group
+     * @param threads   the amount of threads
+     * @param operation the operation
+     */
+    private record Workload(String name, int threads, Operation operation) {
+    }
+
+    @FunctionalInterface
+    private interface Operation {
+        void run() throws Exception;
+    }
+
+    /**
+     * The measurements of a workload.
+     *
+     * @param test       the name of the test
+     * @param workload   the name of the workload
+     * @param threads    the amount of threads
+     * @param operations the amount of completed operations
+     * @param errors     the amount of failed operations
+     * @param elapsed    the wall time of the test in nanoseconds
+     * @param latency    the latency of completed operations
+     */
+    private record Result(String test, String workload, int threads, long operations, long errors, long elapsed, LatencyHistogram.Snapshot latency) {
+        double throughput() {
+            return operations / (elapsed / 1_000_000_000D);
+        }
+    }
+
+    /**
+     * Run workloads concurrently, every thread running {@code operations} operations once all threads have started.
+     */
+    private void run(String test, Workload... workloads) throws Exception {
+        final int total = Stream.of(workloads).mapToInt(Workload::threads).sum();
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<LatencyHistogram> histograms = new ArrayList<>();
+        final List<AtomicLong> errors = new ArrayList<>();
+        final List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(total)) {
+            for (Workload workload : workloads) {
+                final LatencyHistogram histogram = new LatencyHistogram();
+                final AtomicLong failed = new AtomicLong();
+                histograms.add(histogram);
+                errors.add(failed);
+
+                for (int t = 0; t < workload.threads(); t++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < operations; i++) {
+                            final long begin = System.nanoTime();
+                            try {
+                                workload.operation().run();
+                                histogram.record(System.nanoTime() - begin, TimeUnit.NANOSECONDS);
+                            } catch (Exception e) {
+                                failed.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    }));
+                }
+            }
+
+            final long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures)
+                future.get();
+            final long elapsed = System.nanoTime() - begin;
+
+            for (int w = 0; w < workloads.length; w++) {
+                final Result result = new Result(test, workloads[w].name(), workloads[w].threads(), histograms.get(w).getCount(), errors.get(w).get(), elapsed, histograms.get(w).snapshot());
+                results.add(result);
+                logger.info("{} {}: {}", getDisplayName(), test, format(result));
+            }
+        }
+
+        for (int w = 0; w < workloads.length; w++)
+            Assertions.assertEquals(0, errors.get(w).get(), "%s %s had failed operations".formatted(test, workloads[w].name()));
+    }
+
+    private String getDisplayName() {
+        final DisplayName displayName = getClass().getAnnotation(DisplayName.class);
+        return "[%s, pool size %d]".formatted(displayName != null ? displayName.value() : getClass().getSimpleName(), poolSize);
+    }
+
+    private static String format(Result result) {
+        return "%s x%d, %d ops in %dms, %.0f ops/s, p50 %s, p99 %s, max %s".formatted(
+            result.workload(),
+            result.threads(),
+            result.operations(),
+            TimeUnit.NANOSECONDS.toMillis(result.elapsed()),
+            result.throughput(),
+            LatencyHistogram.Snapshot.format(result.latency().p50()),
+            LatencyHistogram.Snapshot.format(result.latency().p99()),
+            LatencyHistogram.Snapshot.format(result.latency().max())
+        );
+    }
+
+    private void report() throws IOException {
+        logger.info("{} results:\n{}", getDisplayName(), results.stream()
+            .map(result -> "  %s - %s".formatted(result.test(), format(result)))
+            .collect(Collectors.joining("\n")));
+
+        final String reportDir = System.getProperty("loadtest.report-dir");
+        if (reportDir == null)
+            return;
+
+        final Path file = Path.of(reportDir).resolve("%s-pool%d.csv".formatted(testConfig.jdbcPrefix() + (testConfig.packedCooldowns() ? "-packed" : ""), poolSize));
+        Files.createDirectories(file.getParent());
+        Files.write(file, Stream.concat(
+            Stream.of("test,workload,threads,operations,errors,elapsed_ms,ops_per_second,p50_us,p99_us,max_us"),
+            results.stream().map(result -> String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%d,%.1f,%d,%d,%d",
+                result.test(),
+                result.workload(),
+                result.threads(),
+                result.operations(),
+                result.errors(),
+                TimeUnit.NANOSECONDS.toMillis(result.elapsed()),
+                result.throughput(),
+                result.latency().p50(),
+                result.latency().p99(),
+                result.latency().max()
+            ))
+        ).toList());
+    }
+}
@@ -1,13 +1,41 @@
 package io.github.exampleuser.exampleplugin.database;
 
+import io.github.exampleuser.exampleplugin.cooldown.CooldownChange;
+import io.github.exampleuser.exampleplugin.cooldown.CooldownType;
+import io.github.exampleuser.exampleplugin.cooldown.Cooldowns;
 import io.github.exampleuser.exampleplugin.database.config.DatabaseConfig;
 import io.github.exampleuser.exampleplugin.database.exception.DatabaseInitializationException;
+import io.github.exampleuser.exampleplugin.database.exception.DatabaseMigrationException;
+import io.github.exampleuser.exampleplugin.database.metrics.PoolMetrics;
+import io.github.exampleuser.exampleplugin.database.metrics.QueryMetrics;
+import io.github.exampleuser.exampleplugin.database.migration.MigrationHandler;
+import io.github.exampleuser.exampleplugin.messenger.message.IncomingMessage;
+import io.github.exampleuser.exampleplugin.messenger.message.Message;
 import io.github.exampleuser.exampleplugin.utility.DB;
+import org.jooq.DSLContext;
+import org.jooq.DatePart;
+import org.jooq.Query;
+import org.jooq.Record2;
+import org.jooq.Result;
 import org.junit.jupiter.api.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.math.BigInteger;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.github.exampleuser.exampleplugin.database.schema.Tables.COOLDOWNS;
+import static io.github.exampleuser.exampleplugin.database.schema.Tables.COOLDOWNS_PACKED;
+import static io.github.exampleuser.exampleplugin.database.schema.Tables.SYNC;
+import static org.jooq.impl.DSL.currentLocalDateTime;
+import static org.jooq.impl.DSL.localDateTimeSub;
 
 /**
  * Contains all test cases.
@@ -53,6 +81,13 @@ abstract class AbstractDatabaseTest {
         DB.getHandler().migrate();
     }
 
+    @Test
+    @DisplayName("Skip Unchanged Migrations")
+    void testSkipUnchangedMigrations() throws DatabaseMigrationException {
+        final MigrationHandler migrationHandler = new MigrationHandler(DB.getHandler().getConnectionPool(), DB.getHandler().getDatabaseConfig());
+        Assertions.assertNull(migrationHandler.migrate()); // The fingerprint stored by the first migration still matches
+    }
+
     @Test
     @DisplayName("Upsert")
     void testUpsert() {
@@ -88,4 +123,302 @@ abstract class AbstractDatabaseTest {
     void testQuerySelect() {
         Queries.loadAll();
     }
+
+    @Test
+    @DisplayName("Select Lazy")
+    void testQuerySelectLazy() {
+        Queries.saveAll();
+        final Result<Record2<String, byte[]>> result = Queries.loadAll();
+        Assertions.assertNotNull(result);
+
+        final List<Record2<String, byte[]>> records = new ArrayList<>();
+        final long rows = Queries.loadAllLazy(1, records::add);
+        Assertions.assertEquals(result.size(), rows);
+        Assertions.assertEquals(result.size(), records.size());
+    }
+
+    @Test
+    @DisplayName("Select Stream")
+    void testQuerySelectStream() {
+        Queries.saveAll();
+        final Result<Record2<String, byte[]>> result = Queries.loadAll();
+        Assertions.assertNotNull(result);
+
+        final Long rows = Queries.loadAllStream(1, Stream::count);
+        Assertions.assertEquals(result.size(), rows);
+    }
+
+    @Test
+    @DisplayName("Select Chunked")
+    void testQuerySelectChunked() {
+        Queries.saveAll();
+        final Result<Record2<String, byte[]>> result = Queries.loadAll();
+        Assertions.assertNotNull(result);
+
+        final Set<String> keys = new HashSet<>();
+        final long rows = Queries.loadAllChunked(1, chunk -> {
+            Assertions.assertEquals(1, chunk.size());
+            chunk.forEach(r -> keys.add(HexFormat.of().formatHex(r.value2())));
+        });
+        Assertions.assertEquals(result.size(), rows);
+        Assertions.assertEquals(result.size(), keys.size()); // Every row is visited exactly once
+    }
+
+    @Test
+    @DisplayName("Read Connection")
+    void testReadConnection() throws SQLException {
+        try (Connection con = DB.read()) {
+            Assertions.assertTrue(con.isValid(1)); // Falls back to the primary without replicas
+        }
+    }
+
+    @Test
+    @DisplayName("Sync Send & Receive")
+    void testSyncSendReceive() {
+        final Message<Object> message = Message.builder()
+            .channelId("message")
+            .payload("payload")
+            .build();
+
+        final int latestSyncId = Queries.Sync.fetchLatestMessageId().orElse(-1);
+        final Optional<Integer> id = Queries.Sync.send(message);
+        Assertions.assertTrue(id.isPresent());
+        Assertions.assertTrue(id.get() > latestSyncId);
+
+        for (int i = 0; i < 2; i++) { // The second call reuses the rendered template
+            final Map<Integer, IncomingMessage<?, ?>> messages = Queries.Sync.receive(latestSyncId, 60_000L);
+            Assertions.assertEquals(1, messages.size());
+            Assertions.assertEquals(message.getUUID(), messages.get(id.get()).getUUID());
+        }
+    }
+
+    @Test
+    @DisplayName("Write Queue")
+    void testWriteQueue() {
+        if (DB.getDB().isSingleWriter())
+            Assertions.assertEquals(1, DB.getHandler().getConnectionPool().getMaximumPoolSize());
+
+        final List<UUID> uuids = new ArrayList<>();
+        final List<CompletableFuture<Void>> writes = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final UUID uuid = UUID.randomUUID();
+            uuids.add(uuid);
+            Cooldowns.set(uuid, CooldownType.EXAMPLE_COOLDOWN, Instant.now().plus(Duration.ofMinutes(5)));
+            writes.add(DB.getWriteQueue().execute(() -> Queries.Cooldown.save(uuid)));
+        }
+        CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new)).join();
+
+        Assertions.assertEquals(0, DB.getWriteQueue().getPending());
+        for (UUID uuid : uuids) {
+            Assertions.assertEquals(1, Queries.Cooldown.load(uuid).size()); // Writes are visible to readers once completed
+            Cooldowns.removeAll(uuid);
+        }
+    }
+
+    @Test
+    @DisplayName("Cooldown Save & Load")
+    void testCooldownSaveLoad() {
+        final UUID uuid = UUID.randomUUID();
+        final Instant expiry = Instant.now().plus(Duration.ofMinutes(5));
+        Cooldowns.set(uuid, CooldownType.EXAMPLE_COOLDOWN, expiry);
+        Queries.Cooldown.save(uuid);
+        Cooldowns.removeAll(uuid);
+
+        final Map<CooldownType, Instant> cooldowns = Queries.Cooldown.load(uuid);
+        Assertions.assertEquals(1, cooldowns.size());
+        Assertions.assertEquals(expiry.getEpochSecond(), cooldowns.get(CooldownType.EXAMPLE_COOLDOWN).getEpochSecond());
+    }
+
+    @Test
+    @DisplayName("Cooldown Millis Save & Load")
+    void testCooldownMillisSaveLoad() {
+        final UUID uuid = UUID.randomUUID();
+        Assertions.assertEquals(0L, Cooldowns.setMillis(uuid, CooldownType.EXAMPLE_COOLDOWN, Duration.ofMinutes(5).toMillis()));
+        Assertions.assertTrue(Cooldowns.has(uuid, CooldownType.EXAMPLE_COOLDOWN));
+        Assertions.assertTrue(Cooldowns.hasMillis(uuid, CooldownType.EXAMPLE_COOLDOWN, Duration.ofMinutes(4).toMillis()));
+        Assertions.assertFalse(Cooldowns.hasMillis(uuid, CooldownType.EXAMPLE_COOLDOWN, Duration.ofMinutes(5).toMillis()));
+
+        final long expiry = Cooldowns.getMillis(uuid, CooldownType.EXAMPLE_COOLDOWN);
+        Queries.Cooldown.save(uuid);
+        Cooldowns.removeAll(uuid);
+        Assertions.assertEquals(0L, Cooldowns.remainingMillis(uuid, CooldownType.EXAMPLE_COOLDOWN));
+
+        final Map<CooldownType, Instant> cooldowns = Queries.Cooldown.load(uuid);
+        Assertions.assertEquals(expiry / 1000, cooldowns.get(CooldownType.EXAMPLE_COOLDOWN).getEpochSecond());
+    }
+
+    @Test
+    @DisplayName("Cooldown Incremental Save")
+    void testCooldownIncrementalSave() {
+        final List<UUID> uuids = Stream.generate(UUID::randomUUID).limit(50).toList();
+        for (UUID uuid : uuids)
+            Cooldowns.set(uuid, CooldownType.EXAMPLE_COOLDOWN, Duration.ofMinutes(5));
+
+        final List<CooldownChange> changes = Cooldowns.drainChanges();
+        Assertions.assertTrue(changes.stream().map(CooldownChange::uuid).collect(Collectors.toSet()).containsAll(uuids));
+        Assertions.assertTrue(Queries.Cooldown.save(changes));
+        Assertions.assertTrue(Cooldowns.drainChanges().isEmpty()); // Nothing changed since the last save
+
+        final Instant extended = Instant.now().plus(Duration.ofMinutes(10));
+        Cooldowns.remove(uuids.get(0), CooldownType.EXAMPLE_COOLDOWN);
+        Cooldowns.set(uuids.get(1), CooldownType.EXAMPLE_COOLDOWN, extended);
+        final List<CooldownChange> deltas = Cooldowns.drainChanges();
+        Assertions.assertEquals(2, deltas.size());
+        Assertions.assertTrue(Queries.Cooldown.save(deltas));
+
+        Assertions.assertTrue(Queries.Cooldown.load(uuids.get(0)).isEmpty());
+        Assertions.assertEquals(extended.getEpochSecond(), Queries.Cooldown.load(uuids.get(1)).get(CooldownType.EXAMPLE_COOLDOWN).getEpochSecond());
+        Assertions.assertEquals(1, Queries.Cooldown.load(uuids.get(2)).size());
+        uuids.forEach(Cooldowns::unload);
+    }
+
+    @Test
+    @DisplayName("Cooldown Bulk Save")
+    void testCooldownBulkSave() {
+        final List<UUID> uuids = Stream.generate(UUID::randomUUID).limit(1200).toList(); // Spans several statements per transaction
+        for (UUID uuid : uuids)
+            Cooldowns.set(uuid, CooldownType.EXAMPLE_COOLDOWN, Duration.ofMinutes(5));
+
+        final List<CooldownChange> changes = Cooldowns.drainChanges();
+        Assertions.assertTrue(changes.stream().map(CooldownChange::uuid).collect(Collectors.toSet()).containsAll(uuids));
+        Assertions.assertTrue(Queries.Cooldown.save(changes));
+
+        final Map<UUID, Map<CooldownType, Instant>> cooldowns = Queries.Cooldown.load(uuids).orElseThrow();
+        Assertions.assertTrue(cooldowns.values().stream().allMatch(c -> c.containsKey(CooldownType.EXAMPLE_COOLDOWN)));
+        uuids.forEach(Cooldowns::unload);
+    }
+
+    @Test
+    @DisplayName("Cooldown Layout Conversion")
+    void testCooldownLayoutConversion() throws SQLException {
+        final UUID uuid = UUID.randomUUID();
+        final Instant expiry = Instant.now().plus(Duration.ofMinutes(5));
+        try (Connection con = DB.getConnection()) {
+            final DSLContext context = DB.getContext(con);
+            if (DB.getHandler().getDatabaseConfig().isPackedCooldowns()) { // Store the cooldown in the layout which is not configured
+                context.insertInto(COOLDOWNS, COOLDOWNS.UUID, COOLDOWNS.COOLDOWN_TYPE, COOLDOWNS.COOLDOWN_TIME)
+                    .values(QueryUtils.UUIDUtil.toBytes(uuid), CooldownType.EXAMPLE_COOLDOWN.name(), QueryUtils.InstantUtil.toDateTime(expiry))
+                    .execute();
+            } else {
+                context.insertInto(COOLDOWNS_PACKED, COOLDOWNS_PACKED.UUID, COOLDOWNS_PACKED.COOLDOWNS)
+                    .values(QueryUtils.UUIDUtil.toBytes(uuid), QueryUtils.CooldownUtil.pack(Map.of(CooldownType.EXAMPLE_COOLDOWN, expiry.toEpochMilli())))
+                    .execute();
+            }
+        }
+
+        Assertions.assertTrue(Queries.Cooldown.load(uuid).isEmpty());
+        Assertions.assertTrue(Queries.Cooldown.convertLayout() >= 1);
+        Assertions.assertEquals(expiry.getEpochSecond(), Queries.Cooldown.load(uuid).get(CooldownType.EXAMPLE_COOLDOWN).getEpochSecond());
+        Assertions.assertEquals(0, Queries.Cooldown.convertLayout()); // Nothing left to convert
+    }
+
+    @Test
+    @DisplayName("Cooldown Batch Load")
+    void testCooldownBatchLoad() {
+        final List<UUID> uuids = Stream.generate(UUID::randomUUID).limit(20).toList();
+        final Instant expiry = Instant.now().plus(Duration.ofMinutes(5));
+        for (UUID uuid : uuids.subList(0, 10))
+            Cooldowns.set(uuid, CooldownType.EXAMPLE_COOLDOWN, expiry);
+        Assertions.assertTrue(Queries.Cooldown.save(Cooldowns.drainChanges()));
+        uuids.forEach(Cooldowns::unload);
+
+        final Map<UUID, Map<CooldownType, Instant>> cooldowns = Queries.Cooldown.load(uuids).orElseThrow();
+        Assertions.assertEquals(uuids.size(), cooldowns.size()); // Players without cooldowns are included
+        for (UUID uuid : uuids.subList(0, 10))
+            Assertions.assertEquals(expiry.getEpochSecond(), cooldowns.get(uuid).get(CooldownType.EXAMPLE_COOLDOWN).getEpochSecond());
+        for (UUID uuid : uuids.subList(10, 20))
+            Assertions.assertTrue(cooldowns.get(uuid).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Pool Metrics")
+    void testPoolMetrics() {
+        Queries.loadAll();
+
+        final List<PoolMetrics.Snapshot> pools = DB.getHandler().getPoolMetrics().snapshot();
+        Assertions.assertEquals(DB.getDB().isSingleWriter() ? 2 : 1, pools.size()); // Single writer databases add a reader pool
+
+        final PoolMetrics.Snapshot pool = pools.stream()
+            .filter(snapshot -> snapshot.poolName().equals(DB.getHandler().getConnectionPool().getPoolName()))
+            .findFirst()
+            .orElseThrow();
+        Assertions.assertTrue(pool.acquireLatency().count() > 0);
+        Assertions.assertTrue(pool.acquireLatency().p50() <= pool.acquireLatency().p99());
+        Assertions.assertTrue(pool.acquireLatency().p99() <= pool.acquireLatency().max());
+        Assertions.assertEquals(0, pool.connectionTimeouts());
+    }
+
+    @Test
+    @DisplayName("Query Metrics")
+    void testQueryMetrics() {
+        DB.getHandler().getQueryMetrics().reset();
+        Queries.loadAll();
+        Queries.loadAll();
+
+        final List<QueryMetrics.Snapshot> queries = DB.getHandler().getQueryMetrics().snapshot();
+        final QueryMetrics.Snapshot query = queries.stream()
+            .filter(snapshot -> snapshot.caller().endsWith("Queries.loadAll"))
+            .findFirst()
+            .orElseThrow();
+        Assertions.assertEquals(2, query.executions());
+        Assertions.assertEquals(0, query.errors());
+        Assertions.assertTrue(query.latency().p50() <= query.latency().max());
+    }
+
+    @Test
+    @DisplayName("Polling Queries Use Indexes")
+    void testPollingQueriesUseIndexes() throws SQLException {
+        try (Connection con = DB.getConnection()) {
+            final DSLContext context = DB.getContext(con);
+
+            assertUsesIndex(context, context // Sync.receive
+                .selectFrom(SYNC)
+                .where(SYNC.ID.greaterThan(0)
+                    .and(SYNC.TIMESTAMP.greaterOrEqual(localDateTimeSub(currentLocalDateTime(), 60L, DatePart.SECOND)))
+                )
+                .orderBy(SYNC.ID.asc())
+            );
+            assertUsesIndex(context, context // Sync.cleanup
+                .deleteFrom(SYNC)
+                .where(SYNC.TIMESTAMP.lessThan(localDateTimeSub(currentLocalDateTime(), 60L, DatePart.SECOND)))
+            );
+            assertUsesIndex(context, context // Cooldown.load
+                .selectFrom(COOLDOWNS)
+                .where(COOLDOWNS.UUID.eq(QueryUtils.UUIDUtil.toBytes(UUID.randomUUID())))
+            );
+        }
+    }
+
+    /**
+     * Asserts the query plan of a query does not contain a full table scan.
+     */
+    private static void assertUsesIndex(DSLContext context, Query query) {
+        final String sql = context.render(query);
+        final Object[] bindings = context.extractBindValues(query).toArray();
+
+        switch (DB.getDB()) {
+            case SQLITE -> context.resultQuery("EXPLAIN QUERY PLAN " + sql, bindings)
+                .fetch("detail", String.class)
+                .forEach(step -> Assertions.assertFalse(step.startsWith("SCAN"), "Full scan in %s: %s".formatted(step, sql)));
+            case H2 -> context.resultQuery("EXPLAIN " + sql, bindings)
+                .fetch(0, String.class)
+                .forEach(plan -> Assertions.assertFalse(plan.contains("tableScan"), "Full scan in %s".formatted(plan)));
+            case MYSQL, MARIADB -> context.resultQuery("EXPLAIN " + sql, bindings)
+                .fetch("possible_keys", String.class) // The chosen plan depends on table statistics, only assert an index can serve the query
+                .forEach(keys -> Assertions.assertNotNull(keys, "No usable index for: %s".formatted(sql)));
+        }
+    }
+
+    @Test
+    @DisplayName("Query Shape Normalization")
+    void testQueryShapeNormalization() {
+        Assertions.assertEquals(
+            "select * from t where id in (?, ...)",
+            QueryMetrics.normalize("select * from t where id in (?, ?, ?)")
+        );
+        Assertions.assertEquals(
+            "insert into t (a, b) values (?, ...), ...",
+            QueryMetrics.normalize("insert into t (a, b) values (?, ?), (?, ?), (?, ?)")
+        );
+    }
 }
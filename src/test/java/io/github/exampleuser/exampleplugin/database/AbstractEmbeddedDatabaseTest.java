@@ -23,6 +23,7 @@ public abstract class AbstractEmbeddedDatabaseTest extends AbstractDatabaseTest
             .withDatabaseType(getTestConfig().jdbcPrefix())
             .withPath(TEMP_DIR)
             .withTablePrefix(getTestConfig().tablePrefix())
+            .withPackedCooldowns(getTestConfig().packedCooldowns())
             .build();
         Assertions.assertEquals(getTestConfig().requiredDatabaseType(), databaseConfig.getDatabaseType());
 
@@ -33,6 +33,7 @@ public abstract class AbstractExternalDatabaseTest extends AbstractDatabaseTest
             .withUsername("root")
             .withPassword("")
             .withTablePrefix(getTestConfig().tablePrefix())
+            .withPackedCooldowns(getTestConfig().packedCooldowns())
             .build();
         Assertions.assertEquals(getTestConfig().requiredDatabaseType(), databaseConfig.getDatabaseType());
 
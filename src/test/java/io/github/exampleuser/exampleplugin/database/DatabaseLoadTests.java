@@ -0,0 +1,49 @@
+package io.github.exampleuser.exampleplugin.database;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+
+/**
+ * Runs load tests for the embedded RDBMS vendors.
+ */
+public class DatabaseLoadTests {
+    @DisplayName("SQLite")
+    @Nested
+    class SQLiteLoadTest extends AbstractDatabaseLoadTest {
+        public SQLiteLoadTest() {
+            super(
+                DatabaseTestUtils.sqlite(DatabaseTestUtils.TablePrefix.NORMAL)
+            );
+        }
+    }
+
+    @DisplayName("SQLite - Packed Cooldowns")
+    @Nested
+    class SQLiteLoadTestPacked extends AbstractDatabaseLoadTest {
+        public SQLiteLoadTestPacked() {
+            super(
+                DatabaseTestUtils.sqlite(DatabaseTestUtils.TablePrefix.NORMAL, true)
+            );
+        }
+    }
+
+    @DisplayName("H2")
+    @Nested
+    class H2LoadTest extends AbstractDatabaseLoadTest {
+        public H2LoadTest() {
+            super(
+                DatabaseTestUtils.h2(DatabaseTestUtils.TablePrefix.NORMAL)
+            );
+        }
+    }
+
+    @DisplayName("H2 - Packed Cooldowns")
+    @Nested
+    class H2LoadTestPacked extends AbstractDatabaseLoadTest {
+        public H2LoadTestPacked() {
+            super(
+                DatabaseTestUtils.h2(DatabaseTestUtils.TablePrefix.NORMAL, true)
+            );
+        }
+    }
+}
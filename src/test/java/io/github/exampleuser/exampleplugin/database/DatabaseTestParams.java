@@ -3,7 +3,7 @@ package io.github.exampleuser.exampleplugin.database;
 import io.github.exampleuser.exampleplugin.database.handler.DatabaseType;
 
 @SuppressWarnings("unused")
-public record DatabaseTestParams(String jdbcPrefix, DatabaseType requiredDatabaseType, String tablePrefix) {
+public record DatabaseTestParams(String jdbcPrefix, DatabaseType requiredDatabaseType, String tablePrefix, boolean packedCooldowns) {
     static Builder builder() {
         return new Builder();
     }
@@ -12,6 +12,7 @@ public record DatabaseTestParams(String jdbcPrefix, DatabaseType requiredDatabas
         private String jdbcPrefix;
         private DatabaseType requiredDatabaseType;
         private String tablePrefix;
+        private boolean packedCooldowns;
 
         private Builder() {}
 
@@ -30,8 +31,13 @@ public record DatabaseTestParams(String jdbcPrefix, DatabaseType requiredDatabas
             return this;
         }
 
+        public Builder withPackedCooldowns(boolean packedCooldowns) {
+            this.packedCooldowns = packedCooldowns;
+            return this;
+        }
+
         public DatabaseTestParams build() {
-            return new DatabaseTestParams(jdbcPrefix, requiredDatabaseType, tablePrefix);
+            return new DatabaseTestParams(jdbcPrefix, requiredDatabaseType, tablePrefix, packedCooldowns);
         }
     }
 }
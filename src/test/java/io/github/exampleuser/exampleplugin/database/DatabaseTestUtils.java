@@ -66,10 +66,23 @@ public final class DatabaseTestUtils {
      */
     @TestOnly
     public static DatabaseTestParams mysql(final TablePrefix tablePrefix) {
+        return mysql(tablePrefix, false);
+    }
+
+    /**
+     * {@link DatabaseTestParams} factory method used for MySQL tests.
+     *
+     * @param tablePrefix     the database table prefix to use in the tests
+     * @param packedCooldowns whether cooldowns are stored packed into one row per player
+     * @return a database test config object
+     */
+    @TestOnly
+    public static DatabaseTestParams mysql(final TablePrefix tablePrefix, final boolean packedCooldowns) {
         return DatabaseTestParams.builder()
             .withJdbcPrefix("mysql")
             .withRequiredDatabaseType(DatabaseType.MYSQL)
             .withTablePrefix(tablePrefix.prefix())
+            .withPackedCooldowns(packedCooldowns)
             .build();
     }
 
@@ -81,10 +94,23 @@ public final class DatabaseTestUtils {
      */
     @TestOnly
     public static DatabaseTestParams mariadb(final TablePrefix tablePrefix) {
+        return mariadb(tablePrefix, false);
+    }
+
+    /**
+     * {@link DatabaseTestParams} factory method used for MariaDB tests.
+     *
+     * @param tablePrefix     the database table prefix to use in the tests
+     * @param packedCooldowns whether cooldowns are stored packed into one row per player
+     * @return a database test config object
+     */
+    @TestOnly
+    public static DatabaseTestParams mariadb(final TablePrefix tablePrefix, final boolean packedCooldowns) {
         return DatabaseTestParams.builder()
             .withJdbcPrefix("mariadb")
             .withRequiredDatabaseType(DatabaseType.MARIADB)
             .withTablePrefix(tablePrefix.prefix())
+            .withPackedCooldowns(packedCooldowns)
             .build();
     }
 
@@ -96,10 +122,23 @@ public final class DatabaseTestUtils {
      */
     @TestOnly
     public static DatabaseTestParams sqlite(final TablePrefix tablePrefix) {
+        return sqlite(tablePrefix, false);
+    }
+
+    /**
+     * {@link DatabaseTestParams} factory method used for SQLite tests.
+     *
+     * @param tablePrefix     the database table prefix to use in the tests
+     * @param packedCooldowns whether cooldowns are stored packed into one row per player
+     * @return a database test config object
+     */
+    @TestOnly
+    public static DatabaseTestParams sqlite(final TablePrefix tablePrefix, final boolean packedCooldowns) {
         return DatabaseTestParams.builder()
             .withJdbcPrefix("sqlite")
             .withRequiredDatabaseType(DatabaseType.SQLITE)
             .withTablePrefix(tablePrefix.prefix())
+            .withPackedCooldowns(packedCooldowns)
             .build();
     }
 
@@ -111,10 +150,23 @@ public final class DatabaseTestUtils {
      */
     @TestOnly
     public static DatabaseTestParams h2(final TablePrefix tablePrefix) {
+        return h2(tablePrefix, false);
+    }
+
+    /**
+     * {@link DatabaseTestParams} factory method used for H2 tests.
+     *
+     * @param tablePrefix     the database table prefix to use in the tests
+     * @param packedCooldowns whether cooldowns are stored packed into one row per player
+     * @return a database test config object
+     */
+    @TestOnly
+    public static DatabaseTestParams h2(final TablePrefix tablePrefix, final boolean packedCooldowns) {
         return DatabaseTestParams.builder()
             .withJdbcPrefix("h2")
             .withRequiredDatabaseType(DatabaseType.H2)
             .withTablePrefix(tablePrefix.prefix())
+            .withPackedCooldowns(packedCooldowns)
             .build();
     }
 }
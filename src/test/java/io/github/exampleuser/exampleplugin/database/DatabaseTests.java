@@ -152,4 +152,52 @@ public class DatabaseTests {
             );
         }
     }
+
+    @DisplayName("MySQL - Packed Cooldowns")
+    @Nested
+    class MySQLTestPacked extends AbstractExternalDatabaseTest {
+        @Container
+        private static final GenericContainer<?> container = DatabaseTestUtils.setupMySQLContainer();
+
+        public MySQLTestPacked() {
+            super(
+                container,
+                DatabaseTestUtils.mysql(DatabaseTestUtils.TablePrefix.NORMAL, true)
+            );
+        }
+    }
+
+    @DisplayName("MariaDB - Packed Cooldowns")
+    @Nested
+    class MariaDBTestPacked extends AbstractExternalDatabaseTest {
+        @Container
+        private static final GenericContainer<?> container = DatabaseTestUtils.setupMariaDBContainer();
+
+        public MariaDBTestPacked() {
+            super(
+                container,
+                DatabaseTestUtils.mariadb(DatabaseTestUtils.TablePrefix.NORMAL, true)
+            );
+        }
+    }
+
+    @DisplayName("SQLite - Packed Cooldowns")
+    @Nested
+    class SQLiteTestPacked extends AbstractEmbeddedDatabaseTest {
+        public SQLiteTestPacked() {
+            super(
+                DatabaseTestUtils.sqlite(DatabaseTestUtils.TablePrefix.NORMAL, true)
+            );
+        }
+    }
+
+    @DisplayName("H2 - Packed Cooldowns")
+    @Nested
+    class H2TestPacked extends AbstractEmbeddedDatabaseTest {
+        public H2TestPacked() {
+            super(
+                DatabaseTestUtils.h2(DatabaseTestUtils.TablePrefix.NORMAL, true)
+            );
+        }
+    }
 }
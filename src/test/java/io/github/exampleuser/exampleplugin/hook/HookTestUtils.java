@@ -0,0 +1,84 @@
+package io.github.exampleuser.exampleplugin.hook;
+
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.TestOnly;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Stores utility methods used for testing hooks without a running server.
+ */
+public final class HookTestUtils {
+    private HookTestUtils() {
+    }
+
+    /**
+     * Create a fake implementing only the given methods, any other method throws an {@link UnsupportedOperationException}.
+     * Proxies are only equal to themselves.
+     *
+     * @param type    the interface to implement
+     * @param methods the implementations by method name, receiving the call arguments
+     * @param <T>     the interface type
+     * @return the fake
+     */
+    @TestOnly
+    public static <T> T fake(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> switch (method.getName()) {
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+            default -> {
+                final Function<Object[], Object> implementation = methods.get(method.getName());
+                if (implementation == null)
+                    throw new UnsupportedOperationException(method.getName());
+
+                yield implementation.apply(args);
+            }
+        }));
+    }
+
+    /**
+     * Create a fake offline player.
+     *
+     * @param uuid the player UUID
+     * @return the player
+     */
+    @TestOnly
+    public static OfflinePlayer offlinePlayer(UUID uuid) {
+        return fake(OfflinePlayer.class, Map.of(
+            "getUniqueId", args -> uuid,
+            "getPlayer", args -> null
+        ));
+    }
+
+    /**
+     * Create a fake online player.
+     *
+     * @param uuid the player UUID
+     * @return the player
+     */
+    @TestOnly
+    public static Player player(UUID uuid) {
+        return fake(Player.class, Map.of(
+            "getUniqueId", args -> uuid
+        ));
+    }
+
+    /**
+     * Create a fake server looking up online players.
+     *
+     * @param online the online player by UUID, or null if offline
+     * @return the server
+     */
+    @TestOnly
+    public static Server server(Function<UUID, Player> online) {
+        return fake(Server.class, Map.of(
+            "getPlayer", args -> online.apply((UUID) args[0])
+        ));
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.exampleuser.exampleplugin.hook.packetevents;
+
+import com.github.retrooper.packetevents.manager.player.PlayerManager;
+import com.github.retrooper.packetevents.protocol.entity.data.EntityData;
+import com.github.retrooper.packetevents.protocol.entity.data.EntityDataTypes;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerEntityMetadata;
+import io.github.exampleuser.exampleplugin.hook.HookTestUtils;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Contains the packet batcher test cases.
+ */
+@Tag("packetevents")
+class PacketBatcherTest {
+    private final Map<UUID, Player> online = new ConcurrentHashMap<>();
+    private final List<Sent> sent = new ArrayList<>();
+    private final PacketBatcher batcher = new PacketBatcher(LoggerFactory.getLogger("Packets"), HookTestUtils.server(online::get), playerManager(), 64D);
+
+    /**
+     * A packet handed to the player manager.
+     *
+     * @param player  the receiving player
+     * @param packet  the packet
+     * @param flushed whether the connection was flushed after the packet
+     */
+    private record Sent(Object player, PacketWrapper<?> packet, boolean flushed) {
+    }
+
+    private PlayerManager playerManager() {
+        return HookTestUtils.fake(PlayerManager.class, Map.of(
+            "writePacket", args -> record(args, false),
+            "sendPacket", args -> record(args, true)
+        ));
+    }
+
+    private Void record(Object[] args, boolean flushed) {
+        sent.add(new Sent(args[0], (PacketWrapper<?>) args[1], flushed));
+        return null;
+    }
+
+    private Player join() {
+        final UUID uuid = UUID.randomUUID();
+        final Player player = HookTestUtils.player(uuid);
+        online.put(uuid, player);
+        batcher.track(uuid);
+        return player;
+    }
+
+    private static WrapperPlayServerEntityMetadata metadata(int entityId, EntityData<?>... data) {
+        return new WrapperPlayServerEntityMetadata(entityId, List.of(data));
+    }
+
+    @Test
+    @DisplayName("Merges Metadata By Index")
+    void testMetadataMerge() {
+        final Player player = join();
+        batcher.sendMetadata(player, metadata(1, new EntityData<>(0, EntityDataTypes.BYTE, (byte) 1), new EntityData<>(2, EntityDataTypes.INT, 5)));
+        batcher.sendMetadata(player, metadata(2, new EntityData<>(0, EntityDataTypes.BYTE, (byte) 3)));
+        batcher.sendMetadata(player, metadata(1, new EntityData<>(0, EntityDataTypes.BYTE, (byte) 2), new EntityData<>(3, EntityDataTypes.INT, 7)));
+        batcher.flush();
+
+        Assertions.assertEquals(2, sent.size(), "Metadata of the same entity should be merged into one packet");
+        final WrapperPlayServerEntityMetadata merged = (WrapperPlayServerEntityMetadata) sent.getLast().packet();
+        Assertions.assertEquals(1, merged.getEntityId(), "Merged metadata should be sent after metadata queued in between");
+        Assertions.assertEquals(List.of(0, 2, 3), merged.getEntityMetadata().stream().map(EntityData::getIndex).toList());
+        Assertions.assertEquals((byte) 2, merged.getEntityMetadata().getFirst().getValue(), "Newer values should win");
+        Assertions.assertEquals(5, merged.getEntityMetadata().get(1).getValue(), "Indexes only in older metadata should be kept");
+    }
+
+    @Test
+    @DisplayName("Supersedes Keyed Packets")
+    void testSupersede() {
+        final Player player = join();
+        final PacketWrapper<?> first = metadata(1);
+        final PacketWrapper<?> unkeyed = metadata(2);
+        final PacketWrapper<?> second = metadata(3);
+        batcher.send(player, first, "score");
+        batcher.send(player, unkeyed);
+        batcher.send(player, second, "score");
+        batcher.flush();
+
+        Assertions.assertEquals(List.of(unkeyed, second), sent.stream().map(Sent::packet).toList(), "Superseding packets should replace the earlier packet and be sent last");
+        Assertions.assertEquals(List.of(false, true), sent.stream().map(Sent::flushed).toList(), "The connection should be flushed once, after the last packet");
+        Assertions.assertTrue(sent.stream().allMatch(s -> s.player() == player));
+
+        final PacketMetrics.Snapshot snapshot = batcher.snapshot().get(player.getUniqueId());
+        Assertions.assertEquals(3, snapshot.queued());
+        Assertions.assertEquals(1, snapshot.merged());
+        Assertions.assertEquals(2, snapshot.sent());
+        Assertions.assertEquals(1, snapshot.flushes());
+    }
+
+    @Test
+    @DisplayName("Flushes Each Tick Separately")
+    void testFlushes() {
+        final Player player = join();
+        batcher.send(player, metadata(1), "score");
+        batcher.flush();
+        batcher.send(player, metadata(1), "score");
+        batcher.flush();
+        batcher.flush();
+
+        Assertions.assertEquals(List.of(true, true), sent.stream().map(Sent::flushed).toList(), "Keys should only supersede packets within the same tick");
+        Assertions.assertEquals(2L, batcher.getMetrics(player.getUniqueId()).snapshot().flushes());
+    }
+
+    @Test
+    @DisplayName("Drops Packets Of Untracked Players")
+    void testUntracked() {
+        final Player player = join();
+        batcher.untrack(player.getUniqueId());
+        batcher.send(player, metadata(1));
+        batcher.sendMetadata(player, metadata(2));
+        batcher.flush();
+
+        Assertions.assertTrue(sent.isEmpty());
+        Assertions.assertNull(batcher.getMetrics(player.getUniqueId()), "Sending should not track players again");
+    }
+
+    @Test
+    @DisplayName("Removes Queues Of Players Who Left")
+    void testLeft() {
+        final Player player = join();
+        batcher.send(player, metadata(1));
+        online.remove(player.getUniqueId());
+        batcher.flush();
+
+        Assertions.assertTrue(sent.isEmpty());
+        Assertions.assertNull(batcher.getMetrics(player.getUniqueId()));
+    }
+}
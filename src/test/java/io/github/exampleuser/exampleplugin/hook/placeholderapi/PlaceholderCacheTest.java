@@ -0,0 +1,103 @@
+package io.github.exampleuser.exampleplugin.hook.placeholderapi;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contains the placeholder cache test cases.
+ */
+@Tag("placeholder")
+class PlaceholderCacheTest {
+    private static final long TTL = 1_000L;
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    private final Queue<Runnable> refreshes = new ArrayDeque<>(); // Refreshes run when the test drains them, like a busy executor
+    private final PlaceholderCache cache = new PlaceholderCache(LoggerFactory.getLogger("Placeholders"), refreshes::add, clock::get);
+
+    private void drain() {
+        Runnable refresh;
+        while ((refresh = refreshes.poll()) != null)
+            refresh.run();
+    }
+
+    @Test
+    @DisplayName("Serves Stale While Revalidating")
+    void testStaleWhileRevalidate() {
+        final UUID player = UUID.randomUUID();
+        final AtomicInteger loads = new AtomicInteger();
+
+        Assertions.assertEquals("", cache.get(player, "loads", TTL, uuid -> String.valueOf(loads.incrementAndGet())), "First request should not block on the loader");
+        Assertions.assertEquals("", cache.get(player, "loads", TTL, uuid -> String.valueOf(loads.incrementAndGet())));
+        Assertions.assertEquals(1, refreshes.size(), "Only one refresh should be queued at a time");
+        drain();
+
+        Assertions.assertEquals("1", cache.get(player, "loads", TTL, uuid -> String.valueOf(loads.incrementAndGet())));
+        Assertions.assertTrue(refreshes.isEmpty(), "Fresh values should not be refreshed");
+
+        clock.addAndGet(TTL);
+        Assertions.assertEquals("1", cache.get(player, "loads", TTL, uuid -> String.valueOf(loads.incrementAndGet())), "Expired values should be served until refreshed");
+        Assertions.assertEquals(1, refreshes.size());
+        drain();
+        Assertions.assertEquals("2", cache.get(player, "loads", TTL, uuid -> String.valueOf(loads.incrementAndGet())));
+    }
+
+    @Test
+    @DisplayName("Caches Per Player")
+    void testPerPlayer() {
+        final UUID first = UUID.randomUUID();
+        final UUID second = UUID.randomUUID();
+
+        cache.get(first, "uuid", TTL, UUID::toString);
+        cache.get(second, "uuid", TTL, UUID::toString);
+        drain();
+
+        Assertions.assertEquals(first.toString(), cache.get(first, "uuid", TTL, UUID::toString));
+        Assertions.assertEquals(second.toString(), cache.get(second, "uuid", TTL, UUID::toString));
+
+        cache.invalidate(first);
+        Assertions.assertEquals("", cache.get(first, "uuid", TTL, UUID::toString), "Invalidated players should be loaded again");
+        Assertions.assertEquals(second.toString(), cache.get(second, "uuid", TTL, UUID::toString));
+    }
+
+    @Test
+    @DisplayName("Keeps Value On Failure")
+    void testFailure() {
+        final UUID player = UUID.randomUUID();
+        cache.get(player, "value", TTL, uuid -> "value");
+        drain();
+
+        clock.addAndGet(TTL);
+        cache.get(player, "value", TTL, uuid -> {
+            throw new IllegalStateException("Failed to load");
+        });
+        drain();
+        Assertions.assertEquals("value", cache.get(player, "value", TTL, uuid -> "other"), "Failed refreshes should keep the previous value");
+        Assertions.assertTrue(refreshes.isEmpty(), "Failed refreshes should back off until the next expiry");
+    }
+
+    @Test
+    @DisplayName("Invalidates And Sweeps")
+    void testInvalidateAndSweep() {
+        final UUID player = UUID.randomUUID();
+        cache.get(player, "value", TTL, uuid -> "value");
+        drain();
+
+        cache.invalidate("value");
+        Assertions.assertEquals("value", cache.get(player, "value", TTL, uuid -> "changed"), "Invalidated placeholders should be served until refreshed");
+        drain();
+        Assertions.assertEquals("changed", cache.get(player, "value", TTL, uuid -> "changed"));
+
+        clock.addAndGet(TTL * 10);
+        cache.sweep(TTL * 5);
+        Assertions.assertEquals("", cache.get(player, "value", TTL, uuid -> "changed"), "Idle values should be swept");
+    }
+}
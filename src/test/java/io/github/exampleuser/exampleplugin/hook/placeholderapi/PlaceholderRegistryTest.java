@@ -0,0 +1,85 @@
+package io.github.exampleuser.exampleplugin.hook.placeholderapi;
+
+import io.github.exampleuser.exampleplugin.cooldown.CooldownType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Contains the placeholder registry test cases.
+ */
+@Tag("placeholder")
+class PlaceholderRegistryTest {
+    private static final UUID PLAYER = UUID.randomUUID();
+
+    private final PlaceholderRegistry registry = new PlaceholderRegistry();
+
+    private String load(String params) {
+        final PlaceholderRegistry.Resolved resolved = registry.resolve(params);
+        Assertions.assertNotNull(resolved, "%s should resolve".formatted(params));
+        return resolved.loader().apply(PLAYER);
+    }
+
+    @Test
+    @DisplayName("Resolves Literals")
+    void testLiterals() {
+        registry.register("example", 1_000L, (player, arguments) -> "example");
+        registry.register("example_nested", 1_000L, (player, arguments) -> "nested");
+
+        Assertions.assertEquals("example", load("example"));
+        Assertions.assertEquals("nested", load("example_nested"));
+        Assertions.assertNull(registry.resolve("example_missing"));
+        Assertions.assertNull(registry.resolve("missing"));
+        Assertions.assertNull(registry.resolve(""));
+    }
+
+    @Test
+    @DisplayName("Parses Arguments")
+    void testArguments() {
+        final PlaceholderArgument<CooldownType> type = PlaceholderArgument.ofEnum(CooldownType.class);
+        registry.register("cooldown_<type>_remaining", 250L, (player, arguments) -> arguments.<CooldownType>get(0).name(), type);
+        registry.register("cooldown_<type>_remaining_formatted", 250L, (player, arguments) -> "formatted " + arguments.<CooldownType>get(0).name(), type);
+        registry.register("top_<index>_<name>", 250L, (player, arguments) -> arguments.<Integer>get(0) + " " + arguments.<String>get(1), PlaceholderArgument.INTEGER, PlaceholderArgument.STRING);
+
+        Assertions.assertEquals("EXAMPLE_COOLDOWN", load("cooldown_example_cooldown_remaining"), "Arguments should span segments");
+        Assertions.assertEquals("formatted EXAMPLE_COOLDOWN", load("cooldown_EXAMPLE_COOLDOWN_remaining_formatted"));
+        Assertions.assertEquals("3 some_name", load("top_3_some_name"));
+        Assertions.assertNull(registry.resolve("cooldown_unknown_remaining"), "Invalid arguments should not resolve");
+        Assertions.assertNull(registry.resolve("top_first_name"));
+    }
+
+    @Test
+    @DisplayName("Prefers Literals Over Arguments")
+    void testLiteralPrecedence() {
+        registry.register("stat_<name>", 1_000L, (player, arguments) -> "argument " + arguments.<String>get(0), PlaceholderArgument.STRING);
+        registry.register("stat_total", 1_000L, (player, arguments) -> "literal");
+
+        Assertions.assertEquals("literal", load("stat_total"));
+        Assertions.assertEquals("argument kills", load("stat_kills"));
+    }
+
+    @Test
+    @DisplayName("Caches Resolution")
+    void testCachesResolution() {
+        registry.register("value_<number>", 1_000L, (player, arguments) -> String.valueOf(arguments.<Integer>get(0)), PlaceholderArgument.INTEGER);
+
+        final PlaceholderRegistry.Resolved resolved = registry.resolve("value_1");
+        Assertions.assertSame(resolved, registry.resolve("value_1"), "Resolving the same string again should reuse the parsed placeholder");
+        Assertions.assertEquals(1_000L, resolved.ttl());
+        Assertions.assertEquals(List.of("value_1"), registry.resolvedParams("value_<number>"));
+
+        Assertions.assertEquals(List.of("value_1"), registry.unregister("value_<number>"));
+        Assertions.assertNull(registry.resolve("value_1"));
+    }
+
+    @Test
+    @DisplayName("Validates Arguments")
+    void testValidatesArguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.register("value_<number>", 1_000L, (player, arguments) -> ""));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> registry.register("value", 1_000L, (player, arguments) -> "", PlaceholderArgument.INTEGER));
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.exampleuser.exampleplugin.hook.vault;
+
+import io.github.exampleuser.exampleplugin.hook.HookTestUtils;
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.economy.EconomyResponse;
+import org.bukkit.OfflinePlayer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Contains the cached economy test cases.
+ */
+@Tag("vault")
+class CachedEconomyTest {
+    private final FakeEconomy economy = new FakeEconomy();
+    private final CachedEconomy cached = new CachedEconomy(LoggerFactory.getLogger("Economy"), () -> economy.proxy);
+    private final OfflinePlayer player = HookTestUtils.offlinePlayer(UUID.randomUUID());
+
+    @AfterEach
+    void tearDown() {
+        cached.close();
+    }
+
+    /**
+     * An economy holding a single balance, recording every write it receives.
+     */
+    private static final class FakeEconomy {
+        private volatile double balance = 0D;
+        private volatile String readBy = null; // The thread of the last balance read
+        private volatile CountDownLatch gate = new CountDownLatch(0); // Holds writes back until opened
+        private final List<String> calls = new CopyOnWriteArrayList<>();
+        private final Economy proxy = HookTestUtils.fake(Economy.class, Map.of(
+            "getBalance", args -> read(),
+            "depositPlayer", args -> deposit((double) args[1]),
+            "withdrawPlayer", args -> withdraw((double) args[1])
+        ));
+
+        private double read() {
+            readBy = Thread.currentThread().getName();
+            return balance;
+        }
+
+        private synchronized EconomyResponse deposit(double amount) {
+            await();
+            calls.add("deposit " + amount);
+            balance += amount;
+            return new EconomyResponse(amount, balance, EconomyResponse.ResponseType.SUCCESS, null);
+        }
+
+        private synchronized EconomyResponse withdraw(double amount) {
+            await();
+            calls.add("withdraw " + amount);
+            if (balance < amount)
+                return new EconomyResponse(0D, balance, EconomyResponse.ResponseType.FAILURE, "Insufficient funds");
+
+            balance -= amount;
+            return new EconomyResponse(amount, balance, EconomyResponse.ResponseType.SUCCESS, null);
+        }
+
+        private void await() {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Combines Writes Of The Same Kind")
+    void testCombinesWrites() {
+        final CompletableFuture<EconomyResponse> first = cached.deposit(player, 5D);
+        final CompletableFuture<EconomyResponse> second = cached.deposit(player, 7D);
+
+        Assertions.assertEquals(5D, first.join().amount, "Each write should be answered with its own amount");
+        Assertions.assertEquals(7D, second.join().amount);
+        Assertions.assertEquals(List.of("deposit 12.0"), economy.calls, "Consecutive deposits should be applied as one call");
+        Assertions.assertEquals(12D, cached.getBalance(player));
+    }
+
+    @Test
+    @DisplayName("Applies Writes In Queue Order")
+    void testQueueOrder() {
+        final CompletableFuture<EconomyResponse> deposit = cached.deposit(player, 10D);
+        final CompletableFuture<EconomyResponse> withdrawal = cached.withdraw(player, 5D);
+        final CompletableFuture<EconomyResponse> late = cached.deposit(player, 1D);
+
+        Assertions.assertTrue(deposit.join().transactionSuccess());
+        Assertions.assertTrue(withdrawal.join().transactionSuccess(), "A withdrawal should see deposits queued before it");
+        Assertions.assertTrue(late.join().transactionSuccess());
+        Assertions.assertEquals(List.of("deposit 10.0", "withdraw 5.0", "deposit 1.0"), economy.calls);
+
+        economy.calls.clear();
+        final CompletableFuture<EconomyResponse> early = cached.withdraw(player, 8D);
+        cached.deposit(player, 10D).join();
+        Assertions.assertFalse(early.join().transactionSuccess(), "A withdrawal should not see deposits queued after it");
+        Assertions.assertEquals(List.of("withdraw 8.0", "deposit 10.0"), economy.calls);
+    }
+
+    @Test
+    @DisplayName("Falls Back To Single Withdrawals")
+    void testWithdrawalFallback() {
+        economy.balance = 10D;
+        final CompletableFuture<EconomyResponse> first = cached.withdraw(player, 6D);
+        final CompletableFuture<EconomyResponse> second = cached.withdraw(player, 6D);
+
+        Assertions.assertTrue(first.join().transactionSuccess(), "The first withdrawal is affordable on its own");
+        Assertions.assertFalse(second.join().transactionSuccess());
+        Assertions.assertEquals(List.of("withdraw 12.0", "withdraw 6.0", "withdraw 6.0"), economy.calls, "A failed combined withdrawal should be retried one by one");
+        Assertions.assertEquals(4D, economy.balance);
+    }
+
+    @Test
+    @DisplayName("Counts Writes Until Applied")
+    void testPendingWrites() {
+        economy.balance = 10D;
+        Assertions.assertEquals(10D, cached.getBalance(player));
+
+        economy.gate = new CountDownLatch(1);
+        final CompletableFuture<EconomyResponse> withdrawal = cached.withdraw(player, 8D);
+        final CompletableFuture<EconomyResponse> deposit = cached.deposit(player, 3D);
+        Assertions.assertFalse(cached.has(player, 5D), "Queued withdrawals should be subtracted");
+        Assertions.assertTrue(cached.has(player, 2D), "Queued deposits should not be counted");
+        Assertions.assertEquals(5D, cached.getBalance(player), "The balance should include queued deposits");
+        economy.gate.countDown();
+
+        withdrawal.join();
+        deposit.join();
+        Assertions.assertEquals(5D, cached.getBalance(player));
+        Assertions.assertTrue(cached.has(player, 5D), "Applied deposits should be counted");
+    }
+
+    @Test
+    @DisplayName("Loads Balances On The Economy Thread")
+    void testLoadThread() {
+        economy.balance = 10D;
+        Assertions.assertEquals(10D, cached.getBalance(player));
+        Assertions.assertEquals("vault-economy", economy.readBy, "The first read should wait for the economy thread instead of calling the economy plugin itself");
+
+        Assertions.assertEquals(10D, cached.getBalanceAsync(HookTestUtils.offlinePlayer(UUID.randomUUID())).join(), "Loading on the economy thread should not wait for itself");
+        Assertions.assertEquals("vault-economy", economy.readBy);
+    }
+
+    @Test
+    @DisplayName("Rejects Negative Amounts")
+    void testNegativeAmounts() {
+        Assertions.assertFalse(cached.deposit(player, -1D).join().transactionSuccess());
+        Assertions.assertFalse(cached.withdraw(player, -1D).join().transactionSuccess());
+        Assertions.assertTrue(economy.calls.isEmpty());
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.exampleuser.exampleplugin.hook.vault;
+
+import io.github.exampleuser.exampleplugin.hook.HookTestUtils;
+import org.bukkit.OfflinePlayer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Contains the cached permissions test cases.
+ */
+@Tag("vault")
+class CachedPermissionsTest {
+    private static final long IDLE_TTL = 300_000L;
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    private final CachedPermissions permissions = new CachedPermissions(LoggerFactory.getLogger("Permissions"), () -> null, () -> null, clock::get);
+
+    @AfterEach
+    void tearDown() {
+        permissions.close();
+    }
+
+    private static OfflinePlayer player() {
+        return HookTestUtils.offlinePlayer(UUID.randomUUID());
+    }
+
+    @Test
+    @DisplayName("Evicts Least Recently Used")
+    void testEviction() {
+        final List<OfflinePlayer> players = new ArrayList<>();
+        for (int i = 0; i < CachedPermissions.MAX_PLAYERS; i++) {
+            final OfflinePlayer player = player();
+            players.add(player);
+            permissions.warm(player);
+            clock.incrementAndGet();
+        }
+        permissions.getGroups(players.getFirst()); // Most recently used again
+        clock.incrementAndGet();
+
+        final OfflinePlayer added = player();
+        permissions.warm(added);
+
+        Assertions.assertTrue(permissions.isCached(added.getUniqueId()), "The new entry should never be evicted");
+        Assertions.assertTrue(permissions.isCached(players.getFirst().getUniqueId()), "Recently used entries should be kept");
+        Assertions.assertFalse(permissions.isCached(players.get(1).getUniqueId()), "The least recently used entry should be evicted");
+        Assertions.assertFalse(permissions.isCached(players.get(CachedPermissions.MAX_PLAYERS / 10).getUniqueId()));
+        Assertions.assertTrue(permissions.isCached(players.get(CachedPermissions.MAX_PLAYERS / 10 + 1).getUniqueId()), "Only a tenth should be evicted");
+    }
+
+    @Test
+    @DisplayName("Sweeps Idle Players")
+    void testSweep() {
+        final OfflinePlayer idle = player();
+        final OfflinePlayer active = player();
+        permissions.warm(idle);
+        permissions.warm(active);
+
+        clock.addAndGet(IDLE_TTL);
+        permissions.getPrefix(active);
+        clock.incrementAndGet();
+        permissions.sweep();
+
+        Assertions.assertFalse(permissions.isCached(idle.getUniqueId()));
+        Assertions.assertTrue(permissions.isCached(active.getUniqueId()));
+    }
+
+    @Test
+    @DisplayName("Invalidates Players")
+    void testInvalidate() {
+        final OfflinePlayer first = player();
+        final OfflinePlayer second = player();
+        permissions.warm(first);
+        permissions.warm(second);
+
+        permissions.invalidate(first.getUniqueId());
+        Assertions.assertFalse(permissions.isCached(first.getUniqueId()));
+        Assertions.assertTrue(permissions.isCached(second.getUniqueId()));
+
+        permissions.invalidateAll();
+        Assertions.assertFalse(permissions.isCached(second.getUniqueId()));
+    }
+
+    @Test
+    @DisplayName("Works Without Providers")
+    void testNoProviders() {
+        final OfflinePlayer player = player();
+
+        Assertions.assertFalse(permissions.has(player, "example.permission"));
+        Assertions.assertNull(permissions.getPrimaryGroup(player));
+        Assertions.assertTrue(permissions.getGroups(player).isEmpty());
+        Assertions.assertFalse(permissions.inGroup(player, "default"));
+        Assertions.assertNull(permissions.getPrefix(player));
+        Assertions.assertNull(permissions.getSuffix(player));
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.exampleuser.exampleplugin.messenger;
+
+import io.github.exampleuser.exampleplugin.database.DatabaseTestParams;
+import io.github.exampleuser.exampleplugin.database.config.DatabaseConfig;
+import io.github.exampleuser.exampleplugin.database.handler.DatabaseHandler;
+import io.github.exampleuser.exampleplugin.messenger.config.MessengerConfig;
+import io.github.exampleuser.exampleplugin.utility.DB;
+import io.github.exampleuser.exampleplugin.utility.Messenger;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public abstract class AbstractEmbeddedMessengerLoadTest extends AbstractMessengerLoadTest {
+    private static @TempDir Path TEMP_DIR; // Temporary directory for the embedded database
+    private final DatabaseTestParams databaseTestConfig;
+
+    AbstractEmbeddedMessengerLoadTest(MessengerTestParams testConfig, DatabaseTestParams databaseTestConfig) {
+        super(testConfig);
+        this.databaseTestConfig = databaseTestConfig;
+    }
+
+    @BeforeAll
+    @DisplayName("Initialize message broker")
+    void beforeAllTests() throws IOException {
+        final DatabaseConfig databaseConfig = DatabaseConfig.builder()
+            .withDatabaseType(databaseTestConfig.jdbcPrefix())
+            .withPath(Files.createDirectories(TEMP_DIR.resolve(getClass().getSimpleName())))
+            .withTablePrefix(databaseTestConfig.tablePrefix())
+            .build();
+        Assertions.assertEquals(databaseTestConfig.requiredDatabaseType(), databaseConfig.getDatabaseType());
+
+        DB.init(
+            DatabaseHandler.builder()
+                .withConfig(databaseConfig)
+                .withLogger(logger)
+                .withMigrate(true)
+                .build()
+        );
+        DB.getHandler().doStartup();
+
+        messengerConfig = MessengerConfig.builder()
+            .withEnabled(true)
+            .withPollingInterval(10)
+            .withBroker(getTestConfig().type())
+            .withAddresses("localhost:3306")
+            .withUsername("")
+            .withPassword("")
+            .withSSL(false)
+            .withVirtualHost("/")
+            .build();
+
+        Messenger.init(
+            MessengerHandler.builder()
+                .withConfig(messengerConfig)
+                .withTesting(true)
+                .withLogger(logger)
+                .withName("Test")
+                .withTaskAdapter(new MockTaskAdapter())
+                .withReceiverAdapter(new MockReceiverAdapter())
+                .build()
+        );
+        Messenger.getHandler().doStartup();
+        Messenger.getHandler().scheduleTasks();
+    }
+
+    @AfterAll
+    @Override
+    void afterAllTests() {
+        super.afterAllTests();
+        DB.getHandler().doShutdown();
+    }
+}
@@ -0,0 +1,192 @@
+package io.github.exampleuser.exampleplugin.messenger;
+
+import io.github.exampleuser.exampleplugin.database.metrics.LatencyHistogram;
+import io.github.exampleuser.exampleplugin.event.MockEventListener;
+import io.github.exampleuser.exampleplugin.event.MockEventSystem;
+import io.github.exampleuser.exampleplugin.messenger.config.MessengerConfig;
+import io.github.exampleuser.exampleplugin.messenger.message.Message;
+import io.github.exampleuser.exampleplugin.utility.Messenger;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+/**
+ * Measures the publish and end-to-end latency, throughput and allocations of a message broker under load, adding the results to {@link MessengerLoadReport}.
+ * <p>
+ * The load is configured with system properties, see the {@code loadTest} Gradle task:
+ * <ul>
+ *     <li>{@code loadtest.threads} the amount of sending threads, default {@value #DEFAULT_THREADS}</li>
+ *     <li>{@code loadtest.operations} the amount of messages sent per thread, default {@value #DEFAULT_OPERATIONS}</li>
+ * </ul>
+ */
+@Tag("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+abstract class AbstractMessengerLoadTest {
+    private static final int DEFAULT_THREADS = 4;
+    private static final int DEFAULT_OPERATIONS = 250;
+    private static final long RECEIVE_TIMEOUT = 60_000L;
+
+    private final MessengerTestParams testConfig;
+    private final int threads = Integer.getInteger("loadtest.threads", DEFAULT_THREADS);
+    private final int operations = Integer.getInteger("loadtest.operations", DEFAULT_OPERATIONS);
+    public MessengerConfig messengerConfig;
+    public Logger logger = LoggerFactory.getLogger("Messenger Load");
+
+    AbstractMessengerLoadTest(MessengerTestParams testConfig) {
+        this.testConfig = testConfig;
+    }
+
+    /**
+     * Exposes the message broker parameters of this test.
+     *
+     * @return the message broker test config
+     */
+    public MessengerTestParams getTestConfig() {
+        return testConfig;
+    }
+
+    @AfterEach
+    void afterEachTest() {
+        MockEventSystem.clear();
+    }
+
+    @AfterAll
+    void afterAllTests() {
+        Messenger.getHandler().doShutdown();
+    }
+
+    private record LoadMessage(long sentAt) {
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Round Trip")
+    void testRoundTrip() throws Exception {
+        run("Round Trip", 1, Math.max(1, operations / 10), true); // Unloaded latency, every message is received before sending the next
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("Flood")
+    void testFlood() throws Exception {
+        run("Flood", threads, operations, false);
+    }
+
+    /**
+     * Send messages from many threads, measuring until every message has been received.
+     *
+     * @param workload   the name of the workload
+     * @param threads    the amount of sending threads
+     * @param operations the amount of messages sent per thread
+     * @param await      whether each thread waits for its message to be received before sending the next
+     */
+    private void run(String workload, int threads, int operations, boolean await) throws Exception {
+        final int total = threads * operations;
+        final LatencyHistogram publishLatency = new LatencyHistogram();
+        final LatencyHistogram endToEndLatency = new LatencyHistogram();
+        final Map<UUID, CountDownLatch> pending = new ConcurrentHashMap<>();
+        final CountDownLatch received = new CountDownLatch(total);
+        final AtomicLong failed = new AtomicLong();
+
+        final MockEventListener listener = event -> {
+            if (event instanceof MockSyncMessageEvent incoming && incoming.getMessage().getPayload() instanceof LoadMessage payload) {
+                final CountDownLatch latch = pending.remove(incoming.getMessage().getUUID());
+                if (latch == null)
+                    return; // Duplicate delivery
+
+                endToEndLatency.record(System.nanoTime() - payload.sentAt(), TimeUnit.NANOSECONDS);
+                latch.countDown();
+                received.countDown();
+            }
+        };
+        MockEventSystem.registerListener(listener);
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < operations; i++) {
+                        final long begin = System.nanoTime();
+                        final Message<Object> message = Message.builder()
+                            .channelId("loadtest")
+                            .payload(new LoadMessage(begin))
+                            .build();
+                        final CountDownLatch latch = new CountDownLatch(1);
+                        pending.put(message.getUUID(), latch);
+
+                        try {
+                            if (!Messenger.send(message).get(RECEIVE_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                                failed.incrementAndGet();
+                                continue;
+                            }
+                            publishLatency.record(System.nanoTime() - begin, TimeUnit.NANOSECONDS);
+
+                            if (await)
+                                latch.await(RECEIVE_TIMEOUT, TimeUnit.MILLISECONDS);
+                        } catch (ExecutionException | TimeoutException e) {
+                            failed.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            final long allocatedBefore = allocatedBytes();
+            final long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures)
+                future.get();
+            received.await(RECEIVE_TIMEOUT, TimeUnit.MILLISECONDS);
+            final long elapsed = System.nanoTime() - begin;
+            final long allocated = allocatedBytes() - allocatedBefore;
+
+            final MessengerLoadReport.Result result = new MessengerLoadReport.Result(
+                getDisplayName(),
+                workload,
+                threads,
+                total,
+                endToEndLatency.getCount(),
+                failed.get(),
+                elapsed,
+                allocated / Math.max(1, endToEndLatency.getCount()),
+                publishLatency.snapshot(),
+                endToEndLatency.snapshot()
+            );
+            MessengerLoadReport.add(result);
+            logger.info("{}", MessengerLoadReport.format(result));
+        } finally {
+            MockEventSystem.unregisterListener(listener);
+        }
+
+        Assertions.assertEquals(0, failed.get(), "%s messages failed to send".formatted(workload));
+        Assertions.assertEquals(0, received.getCount(), "%s messages were lost".formatted(workload));
+    }
+
+    private String getDisplayName() {
+        final DisplayName displayName = getClass().getAnnotation(DisplayName.class);
+        return displayName != null ? displayName.value() : testConfig.type();
+    }
+
+    /**
+     * The bytes allocated by all live threads, including the broker client and polling threads, so the total per message covers both sending and receiving.
+     * Threads exiting during a measurement are not counted.
+     */
+    private static long allocatedBytes() {
+        final com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return LongStream.of(bean.getThreadAllocatedBytes(bean.getAllThreadIds()))
+            .filter(bytes -> bytes > 0)
+            .sum();
+    }
+}
@@ -1,6 +1,9 @@
 package io.github.exampleuser.exampleplugin.messenger;
 
 import com.google.gson.annotations.SerializedName;
+import io.github.exampleuser.exampleplugin.cooldown.CooldownSync;
+import io.github.exampleuser.exampleplugin.cooldown.CooldownType;
+import io.github.exampleuser.exampleplugin.cooldown.Cooldowns;
 import io.github.exampleuser.exampleplugin.event.MockEventListener;
 import io.github.exampleuser.exampleplugin.event.MockEventSystem;
 import io.github.exampleuser.exampleplugin.messenger.config.MessengerConfig;
@@ -11,6 +14,8 @@ import org.junit.jupiter.api.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -173,4 +178,48 @@ abstract class AbstractMessengerTest {
 
         logger.info("Test iteration completed successfully for test: {} #{}", testInfo.getDisplayName(), repetitionInfo.getCurrentRepetition());
     }
+
+    @Test
+    @Order(4)
+    @DisplayName("Cooldown Sync")
+    void testCooldownSync() throws InterruptedException, ExecutionException {
+        final UUID uuid = UUID.randomUUID();
+        final long expiry = System.currentTimeMillis() + 60_000L;
+        final CooldownSync sync = new CooldownSync(uuid, CooldownType.EXAMPLE_COOLDOWN, expiry, System.currentTimeMillis());
+        final Message<Object> message = Message.builder()
+            .channelId(CooldownSync.CHANNEL)
+            .payload(sync)
+            .build();
+
+        final CountDownLatch receiveLatch = new CountDownLatch(1);
+        final AtomicReference<IncomingMessage<?, ?>> receivedMessage = new AtomicReference<>();
+
+        final MockEventListener listener = (event) -> {
+            if (event instanceof MockSyncMessageEvent incomingMessage && message.getUUID().equals(incomingMessage.getMessage().getUUID())) {
+                receivedMessage.set(incomingMessage.getMessage());
+                receiveLatch.countDown();
+            }
+        };
+        MockEventSystem.registerListener(listener);
+
+        Assertions.assertTrue(Messenger.send(message).get(), "Message should have been sent but wasn't");
+        Assertions.assertTrue(receiveLatch.await(10, TimeUnit.SECONDS), "Message should have been received within timeout");
+        Assertions.assertEquals(CooldownSync.CHANNEL, receivedMessage.get().getChannelID(), "Received message channel id should match");
+        Assertions.assertEquals(sync, receivedMessage.get().getPayload(), "Received cooldown change should match");
+
+        try {
+            Assertions.assertFalse(Cooldowns.merge((CooldownSync) receivedMessage.get().getPayload()), "Change for a player who is not loaded should be staged");
+            Cooldowns.load(uuid, Map.of());
+            Assertions.assertEquals(expiry, Cooldowns.getMillis(uuid, CooldownType.EXAMPLE_COOLDOWN), "Staged change should be merged when the player is loaded");
+
+            Assertions.assertFalse(Cooldowns.merge(new CooldownSync(uuid, CooldownType.EXAMPLE_COOLDOWN, 0L, sync.version() - 1)), "Older change should be ignored");
+            Assertions.assertEquals(expiry, Cooldowns.getMillis(uuid, CooldownType.EXAMPLE_COOLDOWN), "Older change should not overwrite the cooldown");
+
+            Assertions.assertTrue(Cooldowns.merge(new CooldownSync(uuid, CooldownType.EXAMPLE_COOLDOWN, 0L, sync.version() + 1)), "Newer change should be applied");
+            Assertions.assertEquals(0L, Cooldowns.getMillis(uuid, CooldownType.EXAMPLE_COOLDOWN), "Newer change should remove the cooldown");
+            Assertions.assertTrue(Cooldowns.drainChanges(uuid).isEmpty(), "Changes from other servers should not be saved");
+        } finally {
+            Cooldowns.unload(uuid);
+        }
+    }
 }
@@ -0,0 +1,110 @@
+package io.github.exampleuser.exampleplugin.messenger;
+
+import io.github.exampleuser.exampleplugin.database.metrics.LatencyHistogram;
+import org.jetbrains.annotations.TestOnly;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Collects the results of the message broker load tests into a comparison table.
+ */
+final class MessengerLoadReport {
+    private static final List<Result> RESULTS = new CopyOnWriteArrayList<>();
+
+    /**
+     * The measurements of a workload.
+     *
+     * @param broker           the name of the message broker
+     * @param workload         the name of the workload
+     * @param threads          the amount of sending threads
+     * @param sent             the amount of messages sent
+     * @param received         the amount of messages received
+     * @param errors           the amount of messages that failed to send
+     * @param elapsed          the wall time until all messages were received in nanoseconds
+     * @param bytesPerMessage  the bytes allocated per received message
+     * @param publishLatency   the latency until the broker accepted a message
+     * @param endToEndLatency  the latency from sending until receiving a message
+     */
+    record Result(String broker, String workload, int threads, long sent, long received, long errors, long elapsed, long bytesPerMessage, LatencyHistogram.Snapshot publishLatency, LatencyHistogram.Snapshot endToEndLatency) {
+        double throughput() {
+            return received / (elapsed / 1_000_000_000D);
+        }
+    }
+
+    @TestOnly
+    static void add(Result result) {
+        RESULTS.add(result);
+    }
+
+    @TestOnly
+    static String format(Result result) {
+        return "[%s] %s x%d, %d/%d msgs in %dms, %.0f msgs/s, publish p50 %s p99 %s, end-to-end p50 %s p99 %s max %s, %d B/msg".formatted(
+            result.broker(),
+            result.workload(),
+            result.threads(),
+            result.received(),
+            result.sent(),
+            TimeUnit.NANOSECONDS.toMillis(result.elapsed()),
+            result.throughput(),
+            LatencyHistogram.Snapshot.format(result.publishLatency().p50()),
+            LatencyHistogram.Snapshot.format(result.publishLatency().p99()),
+            LatencyHistogram.Snapshot.format(result.endToEndLatency().p50()),
+            LatencyHistogram.Snapshot.format(result.endToEndLatency().p99()),
+            LatencyHistogram.Snapshot.format(result.endToEndLatency().max()),
+            result.bytesPerMessage()
+        );
+    }
+
+    /**
+     * Render the results of all brokers as a Markdown table.
+     *
+     * @return the table, or an empty string if no load tests ran
+     */
+    @TestOnly
+    static String table() {
+        if (RESULTS.isEmpty())
+            return "";
+
+        return Stream.concat(
+            Stream.of(
+                "| Broker | Workload | Threads | Received | Msgs/s | Publish p50 | Publish p99 | End-to-end p50 | End-to-end p99 | End-to-end max | Bytes/msg |",
+                "|--------|----------|---------|----------|--------|-------------|-------------|----------------|----------------|----------------|-----------|"
+            ),
+            RESULTS.stream().map(result -> String.format(Locale.ROOT, "| %s | %s | %d | %d/%d | %.0f | %s | %s | %s | %s | %s | %d |",
+                result.broker(),
+                result.workload(),
+                result.threads(),
+                result.received(),
+                result.sent(),
+                result.throughput(),
+                LatencyHistogram.Snapshot.format(result.publishLatency().p50()),
+                LatencyHistogram.Snapshot.format(result.publishLatency().p99()),
+                LatencyHistogram.Snapshot.format(result.endToEndLatency().p50()),
+                LatencyHistogram.Snapshot.format(result.endToEndLatency().p99()),
+                LatencyHistogram.Snapshot.format(result.endToEndLatency().max()),
+                result.bytesPerMessage()
+            ))
+        ).reduce((a, b) -> a + "\n" + b).orElse("");
+    }
+
+    /**
+     * Write the comparison table to {@code messenger.md} in the {@code loadtest.report-dir} directory, if set.
+     */
+    @TestOnly
+    static void write() throws IOException {
+        final String reportDir = System.getProperty("loadtest.report-dir");
+        if (reportDir == null || RESULTS.isEmpty())
+            return;
+
+        final Path file = Path.of(reportDir).resolve("messenger.md");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, table() + "\n");
+    }
+}
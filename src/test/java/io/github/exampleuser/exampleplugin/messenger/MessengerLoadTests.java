@@ -0,0 +1,88 @@
+package io.github.exampleuser.exampleplugin.messenger;
+
+import io.github.exampleuser.exampleplugin.database.DatabaseTestUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+
+import java.io.IOException;
+
+/**
+ * Runs load tests for different message brokers, comparing them once all have run.
+ */
+public class MessengerLoadTests {
+    @AfterAll
+    static void afterAllTests() throws IOException {
+        final String table = MessengerLoadReport.table();
+        if (!table.isEmpty())
+            LoggerFactory.getLogger("Messenger Load").info("Message broker comparison:\n{}", table);
+        MessengerLoadReport.write();
+    }
+
+    @DisplayName("Database (SQLite)")
+    @Nested
+    class DatabaseSQLiteLoadTest extends AbstractEmbeddedMessengerLoadTest {
+        public DatabaseSQLiteLoadTest() {
+            super(
+                MessengerTestUtils.database(),
+                DatabaseTestUtils.sqlite(DatabaseTestUtils.TablePrefix.EMPTY)
+            );
+        }
+    }
+
+    @DisplayName("Database (H2)")
+    @Nested
+    class DatabaseH2LoadTest extends AbstractEmbeddedMessengerLoadTest {
+        public DatabaseH2LoadTest() {
+            super(
+                MessengerTestUtils.database(),
+                DatabaseTestUtils.h2(DatabaseTestUtils.TablePrefix.EMPTY)
+            );
+        }
+    }
+
+    @DisplayName("Redis")
+    @Nested
+    class RedisLoadTest extends AbstractExternalMessengerLoadTest {
+        @Container
+        private static final GenericContainer<?> container = MessengerTestUtils.setupRedisContainer();
+
+        public RedisLoadTest() {
+            super(
+                container,
+                MessengerTestUtils.redis()
+            );
+        }
+    }
+
+    @DisplayName("Nats")
+    @Nested
+    class NatsLoadTest extends AbstractExternalMessengerLoadTest {
+        @Container
+        private static final GenericContainer<?> container = MessengerTestUtils.setupNatsContainer();
+
+        public NatsLoadTest() {
+            super(
+                container,
+                MessengerTestUtils.nats()
+            );
+        }
+    }
+
+    @DisplayName("RabbitMQ")
+    @Nested
+    class RabbitMQLoadTest extends AbstractExternalMessengerLoadTest {
+        @Container
+        private static final GenericContainer<?> container = MessengerTestUtils.setupRabbitMQContainer();
+
+        public RabbitMQLoadTest() {
+            super(
+                container,
+                MessengerTestUtils.rabbitmq()
+            );
+        }
+    }
+}